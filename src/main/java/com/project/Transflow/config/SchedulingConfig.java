@@ -0,0 +1,12 @@
+package com.project.Transflow.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(@Scheduled) 활성화 - 번역 메모리 등 캐시 테이블 정리
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
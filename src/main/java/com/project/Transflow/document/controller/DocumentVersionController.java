@@ -4,6 +4,8 @@ import com.project.Transflow.admin.util.AdminAuthUtil;
 import com.project.Transflow.document.dto.CreateDocumentVersionRequest;
 import com.project.Transflow.document.dto.DocumentVersionResponse;
 import com.project.Transflow.document.service.DocumentVersionService;
+import com.project.Transflow.term.dto.TermMatchResponse;
+import com.project.Transflow.term.service.TermMatchService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -29,6 +31,7 @@ import java.util.List;
 public class DocumentVersionController {
 
     private final DocumentVersionService documentVersionService;
+    private final TermMatchService termMatchService;
     private final AdminAuthUtil adminAuthUtil;
 
     @Operation(
@@ -160,6 +163,30 @@ public class DocumentVersionController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @Operation(
+            summary = "버전 본문 용어 출현 위치 조회",
+            description = "버전 본문(content)에서 용어 사전 용어가 나타나는 위치를 모두 조회합니다. " +
+                    "원문 버전은 원문 용어, 번역 버전은 번역 용어를 찾습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = TermMatchResponse.class))),
+            @ApiResponse(responseCode = "404", description = "버전을 찾을 수 없음")
+    })
+    @GetMapping("/{versionId}/term-matches")
+    public ResponseEntity<TermMatchResponse> getTermMatches(
+            @Parameter(description = "문서 ID", required = true, example = "1")
+            @PathVariable Long documentId,
+            @Parameter(description = "버전 ID", required = true, example = "1")
+            @PathVariable Long versionId) {
+
+        try {
+            return ResponseEntity.ok(termMatchService.findInDocumentVersion(documentId, versionId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     @Operation(
             summary = "현재 버전 설정",
             description = "특정 버전을 현재 활성 버전으로 설정합니다."
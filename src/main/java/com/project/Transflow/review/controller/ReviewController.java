@@ -2,8 +2,10 @@ package com.project.Transflow.review.controller;
 
 import com.project.Transflow.admin.util.AdminAuthUtil;
 import com.project.Transflow.review.dto.CreateReviewRequest;
+import com.project.Transflow.review.dto.GlossaryCheckResponse;
 import com.project.Transflow.review.dto.ReviewResponse;
 import com.project.Transflow.review.dto.UpdateReviewRequest;
+import com.project.Transflow.review.service.GlossaryConsistencyChecker;
 import com.project.Transflow.review.service.ReviewService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -31,6 +33,7 @@ import java.util.List;
 public class ReviewController {
 
     private final ReviewService reviewService;
+    private final GlossaryConsistencyChecker glossaryConsistencyChecker;
     private final AdminAuthUtil adminAuthUtil;
 
     @Operation(
@@ -208,6 +211,30 @@ public class ReviewController {
         }
     }
 
+    @Operation(
+            summary = "용어집 적용 검사",
+            description = "번역 버전을 원문 버전과 문단 단위로 비교하여 용어집 위반을 조회합니다. " +
+                    "결과의 checklist로 리뷰 체크리스트의 용어집 적용 항목을 채울 수 있습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "검사 성공",
+                    content = @Content(schema = @Schema(implementation = GlossaryCheckResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (원문 버전, 다른 문서의 버전 등)")
+    })
+    @GetMapping("/glossary-check")
+    public ResponseEntity<GlossaryCheckResponse> checkGlossary(
+            @Parameter(description = "문서 ID", required = true, example = "1")
+            @RequestParam Long documentId,
+            @Parameter(description = "검사할 번역 버전 ID", required = true, example = "2")
+            @RequestParam Long documentVersionId) {
+
+        try {
+            return ResponseEntity.ok(glossaryConsistencyChecker.check(documentId, documentVersionId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @Operation(
             summary = "리뷰 목록 조회",
             description = "리뷰 목록을 조회합니다. 필터링 가능"
@@ -0,0 +1,76 @@
+package com.project.Transflow.review.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "용어집 적용 검사 결과")
+public class GlossaryCheckResponse {
+
+    @Schema(description = "문서 ID", example = "1")
+    private Long documentId;
+
+    @Schema(description = "검사한 번역 버전 ID", example = "2")
+    private Long documentVersionId;
+
+    @Schema(description = "비교한 원문 버전 ID", example = "1")
+    private Long sourceVersionId;
+
+    @Schema(description = "문단 단위 정렬 여부 (false면 문단 구조가 달라 문서 전체를 한 단위로 비교)", example = "true")
+    private Boolean paragraphAligned;
+
+    @Schema(description = "비교한 문단 수", example = "42")
+    private Integer paragraphCount;
+
+    @Schema(description = "원문에서 찾은 용어 수 (문단별 중복 제외)", example = "30")
+    private Integer checkedTermCount;
+
+    @Schema(description = "위반 수", example = "2")
+    private Integer violationCount;
+
+    @Schema(description = "용어집 적용 통과 여부", example = "false")
+    private Boolean passed;
+
+    @Schema(description = "리뷰 체크리스트 미리 채우기 값", example = "{\"termDictionaryApplied\": false}")
+    private Map<String, Boolean> checklist;
+
+    @Schema(description = "위반 목록 (문단 순서)")
+    private List<Violation> violations;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "용어집 위반 (원문 문단에 용어가 있지만 번역 문단에 승인된 번역 용어가 없음)")
+    public static class Violation {
+        @Schema(description = "문단 순번 (0부터)", example = "3")
+        private Integer paragraphIndex;
+
+        @Schema(description = "용어 ID", example = "1")
+        private Long termId;
+
+        @Schema(description = "원문 용어", example = "Spring Boot")
+        private String sourceTerm;
+
+        @Schema(description = "승인된 번역 용어", example = "스프링 부트")
+        private String targetTerm;
+
+        @Schema(description = "원문 문단 (일부)")
+        private String sourceExcerpt;
+
+        @Schema(description = "번역 문단 (일부)")
+        private String translatedExcerpt;
+    }
+}
@@ -0,0 +1,251 @@
+package com.project.Transflow.review.service;
+
+import com.project.Transflow.document.entity.Document;
+import com.project.Transflow.document.entity.DocumentVersion;
+import com.project.Transflow.document.repository.DocumentVersionRepository;
+import com.project.Transflow.review.dto.GlossaryCheckResponse;
+import com.project.Transflow.term.service.TermMatchService;
+import com.project.Transflow.term.service.TermMatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.select.NodeVisitor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 용어집 적용 검사 (리뷰 체크리스트의 "용어집적용" 항목 자동 확인)
+ * 원문 버전과 번역 버전을 문단 단위로 맞춘 뒤, 원문 문단에 나온 용어의 승인된 번역 용어가
+ * 번역 문단에 있는지 확인
+ * 용어 검색은 언어 쌍별로 미리 만들어 둔 TermMatcher를 사용하므로 문서 전체를 한 번씩만 훑음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GlossaryConsistencyChecker {
+
+    // 리뷰 체크리스트의 용어집 적용 항목 키
+    public static final String CHECKLIST_KEY = "termDictionaryApplied";
+
+    private static final int ORIGINAL_VERSION_NUMBER = 0;
+    private static final int EXCERPT_LENGTH = 200;
+
+    // 문단으로 취급할 태그들
+    private static final Set<String> PARAGRAPH_TAGS = Set.of(
+            "p", "h1", "h2", "h3", "h4", "h5", "h6", "li", "td", "th",
+            "blockquote", "pre", "dt", "dd", "caption", "figcaption"
+    );
+
+    private final DocumentVersionRepository documentVersionRepository;
+    private final TermMatchService termMatchService;
+
+    @Transactional(readOnly = true)
+    public GlossaryCheckResponse check(Long documentId, Long documentVersionId) {
+        return checkVersion(documentId, documentVersionId);
+    }
+
+    /**
+     * 리뷰 생성 시 체크리스트 미리 채우기용 (검사할 수 없는 버전이면 빈 Map)
+     * 리뷰 생성 트랜잭션과 분리된 별도 트랜잭션에서 실행하므로, 검사 중 DB 오류가 나도
+     * 리뷰 트랜잭션은 롤백으로 표시되지 않음 (오류는 호출한 쪽에서 처리)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public Map<String, Boolean> suggestChecklist(Long documentId, Long documentVersionId) {
+        try {
+            return checkVersion(documentId, documentVersionId).getChecklist();
+        } catch (IllegalArgumentException e) {
+            // 원문 버전 리뷰 등 검사할 수 없는 경우는 리뷰어가 직접 확인
+            log.debug("용어집 자동 검사 생략: {}", e.getMessage());
+            return new LinkedHashMap<>();
+        }
+    }
+
+    private GlossaryCheckResponse checkVersion(Long documentId, Long documentVersionId) {
+        long startTime = System.currentTimeMillis();
+
+        DocumentVersion translatedVersion = documentVersionRepository.findById(documentVersionId)
+                .orElseThrow(() -> new IllegalArgumentException("문서 버전을 찾을 수 없습니다: " + documentVersionId));
+        if (!translatedVersion.getDocument().getId().equals(documentId)) {
+            throw new IllegalArgumentException("문서 버전이 해당 문서에 속하지 않습니다.");
+        }
+        if ("ORIGINAL".equals(translatedVersion.getVersionType())) {
+            throw new IllegalArgumentException("원문 버전은 용어집 검사 대상이 아닙니다.");
+        }
+        DocumentVersion sourceVersion = documentVersionRepository
+                .findByDocument_IdAndVersionNumber(documentId, ORIGINAL_VERSION_NUMBER)
+                .orElseThrow(() -> new IllegalArgumentException("원문 버전을 찾을 수 없습니다: " + documentId));
+
+        Document document = translatedVersion.getDocument();
+        TermMatcher sourceMatcher = termMatchService.getMatcher(
+                document.getSourceLang(), document.getTargetLang(), TermMatcher.Side.SOURCE);
+        TermMatcher targetMatcher = termMatchService.getMatcher(
+                document.getSourceLang(), document.getTargetLang(), TermMatcher.Side.TARGET);
+
+        // 문단 정렬 (번역은 HTML 구조를 유지하므로 보통 문단 수와 태그 순서가 같음)
+        List<Paragraph> sourceParagraphs = extractParagraphs(sourceVersion.getContent());
+        List<Paragraph> translatedParagraphs = extractParagraphs(translatedVersion.getContent());
+        boolean aligned = isAligned(sourceParagraphs, translatedParagraphs);
+        if (!aligned) {
+            log.info("문단 구조가 달라 문서 전체로 용어집 검사 - 문서 ID: {}, 원문 {}개 / 번역 {}개 문단",
+                    documentId, sourceParagraphs.size(), translatedParagraphs.size());
+            sourceParagraphs = List.of(joinParagraphs(sourceParagraphs));
+            translatedParagraphs = List.of(joinParagraphs(translatedParagraphs));
+        }
+
+        int checkedTermCount = 0;
+        List<GlossaryCheckResponse.Violation> violations = new ArrayList<>();
+        for (int i = 0; i < sourceParagraphs.size(); i++) {
+            String sourceText = sourceParagraphs.get(i).text;
+            String translatedText = translatedParagraphs.get(i).text;
+
+            Map<Long, TermMatcher.Term> expected = new LinkedHashMap<>();
+            for (TermMatcher.Match match : sourceMatcher.findAll(sourceText, false)) {
+                match.getTerms().forEach(term -> expected.putIfAbsent(term.getId(), term));
+            }
+            if (expected.isEmpty()) {
+                continue;
+            }
+            checkedTermCount += expected.size();
+
+            // 번역 용어가 같은 용어들은 하나의 매칭에 함께 담겨 있으므로 ID로 비교
+            Set<Long> applied = new HashSet<>();
+            for (TermMatcher.Match match : targetMatcher.findAll(translatedText, false)) {
+                match.getTerms().forEach(term -> applied.add(term.getId()));
+            }
+            for (TermMatcher.Term term : expected.values()) {
+                if (!applied.contains(term.getId())) {
+                    violations.add(GlossaryCheckResponse.Violation.builder()
+                            .paragraphIndex(aligned ? i : null)
+                            .termId(term.getId())
+                            .sourceTerm(term.getSourceTerm())
+                            .targetTerm(term.getTargetTerm())
+                            .sourceExcerpt(excerpt(sourceText))
+                            .translatedExcerpt(excerpt(translatedText))
+                            .build());
+                }
+            }
+        }
+
+        boolean passed = violations.isEmpty();
+        Map<String, Boolean> checklist = new LinkedHashMap<>();
+        checklist.put(CHECKLIST_KEY, passed);
+
+        log.info("용어집 검사 완료 - 문서 ID: {}, 버전 ID: {}, 용어 {}개, 위반 {}개 ({}ms)",
+                documentId, documentVersionId, checkedTermCount, violations.size(),
+                System.currentTimeMillis() - startTime);
+
+        return GlossaryCheckResponse.builder()
+                .documentId(documentId)
+                .documentVersionId(documentVersionId)
+                .sourceVersionId(sourceVersion.getId())
+                .paragraphAligned(aligned)
+                .paragraphCount(sourceParagraphs.size())
+                .checkedTermCount(checkedTermCount)
+                .violationCount(violations.size())
+                .passed(passed)
+                .checklist(checklist)
+                .violations(violations)
+                .build();
+    }
+
+    /**
+     * HTML에서 문단 목록 추출 (문서 순서, 텍스트 노드는 가장 가까운 문단 태그에 속함)
+     * 문단 태그 밖의 텍스트는 하나의 문단으로 모음
+     */
+    private List<Paragraph> extractParagraphs(String html) {
+        Map<Element, Paragraph> paragraphs = new LinkedHashMap<>();
+        Element body = Jsoup.parse(html).body();
+        Deque<Element> blocks = new ArrayDeque<>();
+        blocks.push(body);
+
+        body.traverse(new NodeVisitor() {
+            @Override
+            public void head(Node node, int depth) {
+                if (node instanceof Element) {
+                    Element element = (Element) node;
+                    if (PARAGRAPH_TAGS.contains(element.normalName())) {
+                        blocks.push(element);
+                    }
+                } else if (node instanceof TextNode) {
+                    TextNode textNode = (TextNode) node;
+                    if (!textNode.isBlank()) {
+                        Element block = blocks.peek();
+                        paragraphs.computeIfAbsent(block, key -> new Paragraph(block.normalName()))
+                                .append(textNode.text());
+                    }
+                }
+            }
+
+            @Override
+            public void tail(Node node, int depth) {
+                if (node != body && node == blocks.peek()) {
+                    blocks.pop();
+                }
+            }
+        });
+
+        List<Paragraph> result = new ArrayList<>(paragraphs.values());
+        result.forEach(Paragraph::finish);
+        return result;
+    }
+
+    private static boolean isAligned(List<Paragraph> source, List<Paragraph> translated) {
+        if (source.size() != translated.size()) {
+            return false;
+        }
+        for (int i = 0; i < source.size(); i++) {
+            if (!source.get(i).tagName.equals(translated.get(i).tagName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Paragraph joinParagraphs(List<Paragraph> paragraphs) {
+        Paragraph joined = new Paragraph("body");
+        paragraphs.forEach(paragraph -> joined.append(paragraph.text));
+        joined.finish();
+        return joined;
+    }
+
+    private static String excerpt(String text) {
+        return text.length() > EXCERPT_LENGTH ? text.substring(0, EXCERPT_LENGTH) + "..." : text;
+    }
+
+    /**
+     * 문단 (태그 이름 + 텍스트)
+     */
+    private static class Paragraph {
+        final String tagName;
+        private final StringBuilder builder = new StringBuilder();
+        String text;
+
+        Paragraph(String tagName) {
+            this.tagName = tagName;
+        }
+
+        void append(String value) {
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            builder.append(value);
+        }
+
+        void finish() {
+            text = builder.toString().trim();
+        }
+    }
+}
@@ -35,6 +35,7 @@ public class ReviewService {
     private final DocumentRepository documentRepository;
     private final DocumentVersionRepository documentVersionRepository;
     private final UserRepository userRepository;
+    private final GlossaryConsistencyChecker glossaryConsistencyChecker;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Transactional
@@ -60,11 +61,24 @@ public class ReviewService {
             throw new IllegalArgumentException("이미 해당 버전에 대한 리뷰가 존재합니다.");
         }
 
+        // 용어집 적용 항목을 지정하지 않았으면 자동 검사 결과로 채움
+        Map<String, Boolean> checklist = request.getChecklist() != null
+                ? new HashMap<>(request.getChecklist()) : new HashMap<>();
+        if (!checklist.containsKey(GlossaryConsistencyChecker.CHECKLIST_KEY)) {
+            try {
+                checklist.putAll(glossaryConsistencyChecker
+                        .suggestChecklist(request.getDocumentId(), request.getDocumentVersionId()));
+            } catch (Exception e) {
+                // 자동 검사는 별도 트랜잭션이므로 실패해도 리뷰는 그대로 생성 (리뷰어가 직접 확인)
+                log.warn("용어집 자동 검사 실패 - 문서 버전 ID: {}: {}", request.getDocumentVersionId(), e.getMessage());
+            }
+        }
+
         // Checklist를 JSON 문자열로 변환
         String checklistJson = null;
-        if (request.getChecklist() != null) {
+        if (!checklist.isEmpty()) {
             try {
-                checklistJson = objectMapper.writeValueAsString(request.getChecklist());
+                checklistJson = objectMapper.writeValueAsString(checklist);
             } catch (JsonProcessingException e) {
                 log.error("체크리스트 JSON 변환 실패", e);
             }
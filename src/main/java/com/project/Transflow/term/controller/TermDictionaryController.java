@@ -4,6 +4,7 @@ import com.project.Transflow.admin.util.AdminAuthUtil;
 import com.project.Transflow.term.dto.CreateTermRequest;
 import com.project.Transflow.term.dto.TermDictionaryResponse;
 import com.project.Transflow.term.dto.UpdateTermRequest;
+import com.project.Transflow.term.service.TermDictionaryCache;
 import com.project.Transflow.term.service.TermDictionaryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,6 +16,7 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -69,31 +71,31 @@ public class TermDictionaryController {
 
     @Operation(
             summary = "용어 목록 조회",
-            description = "용어 사전 목록을 조회합니다. 언어별 필터링 가능"
+            description = "용어 사전 목록을 조회합니다. 언어별 필터링 가능. " +
+                    "응답의 ETag를 If-None-Match로 보내면 용어가 바뀌지 않은 경우 304를 반환합니다."
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "조회 성공")
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)")
     })
     @GetMapping
     public ResponseEntity<List<TermDictionaryResponse>> getAllTerms(
             @Parameter(description = "원문 언어 필터", example = "EN")
             @RequestParam(required = false) String sourceLang,
             @Parameter(description = "번역 언어 필터", example = "KO")
-            @RequestParam(required = false) String targetLang) {
-
-        List<TermDictionaryResponse> terms;
-
-        if (sourceLang != null && targetLang != null) {
-            terms = termDictionaryService.findByLanguages(sourceLang, targetLang);
-        } else if (sourceLang != null) {
-            terms = termDictionaryService.findBySourceLang(sourceLang);
-        } else if (targetLang != null) {
-            terms = termDictionaryService.findByTargetLang(targetLang);
-        } else {
-            terms = termDictionaryService.findAll();
+            @RequestParam(required = false) String targetLang,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        // 용어가 바뀌지 않았으면 DB/캐시 조회 없이 304
+        String currentETag = termDictionaryService.toETag(termDictionaryService.getCurrentVersion(sourceLang, targetLang));
+        if (matchesETag(ifNoneMatch, currentETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag).build();
         }
 
-        return ResponseEntity.ok(terms);
+        TermDictionaryCache.Snapshot snapshot = termDictionaryService.findSnapshot(sourceLang, targetLang);
+        return ResponseEntity.ok()
+                .eTag(termDictionaryService.toETag(snapshot.getVersion()))
+                .body(snapshot.getTerms());
     }
 
     @Operation(
@@ -117,11 +119,12 @@ public class TermDictionaryController {
 
     @Operation(
             summary = "원문 용어로 조회",
-            description = "원문 용어와 언어 쌍으로 용어를 조회합니다."
+            description = "원문 용어와 언어 쌍으로 용어를 조회합니다. If-None-Match를 지원합니다."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공",
                     content = @Content(schema = @Schema(implementation = TermDictionaryResponse.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "404", description = "용어를 찾을 수 없음")
     })
     @GetMapping("/search")
@@ -131,10 +134,19 @@ public class TermDictionaryController {
             @Parameter(description = "원문 언어", required = true, example = "EN")
             @RequestParam String sourceLang,
             @Parameter(description = "번역 언어", required = true, example = "KO")
-            @RequestParam String targetLang) {
+            @RequestParam String targetLang,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
-        return termDictionaryService.findBySourceTerm(sourceTerm, sourceLang, targetLang)
-                .map(ResponseEntity::ok)
+        String currentETag = termDictionaryService.toETag(termDictionaryService.getCurrentVersion(sourceLang, targetLang));
+        if (matchesETag(ifNoneMatch, currentETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag).build();
+        }
+
+        TermDictionaryCache.Snapshot snapshot = termDictionaryService.findSnapshot(sourceLang, targetLang);
+        return snapshot.findBySourceTerm(sourceTerm)
+                .map(term -> ResponseEntity.ok()
+                        .eTag(termDictionaryService.toETag(snapshot.getVersion()))
+                        .body(term))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -196,5 +208,23 @@ public class TermDictionaryController {
             return ResponseEntity.notFound().build();
         }
     }
-}
 
+    /**
+     * If-None-Match 헤더에 현재 ETag가 있는지 확인 (여러 값, 약한 ETag(W/), * 허용)
+     */
+    private boolean matchesETag(String ifNoneMatch, String currentETag) {
+        if (ifNoneMatch == null || ifNoneMatch.isEmpty()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(currentETag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
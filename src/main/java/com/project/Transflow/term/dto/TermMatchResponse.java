@@ -0,0 +1,66 @@
+package com.project.Transflow.term.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "문서 버전 용어 출현 위치 응답")
+public class TermMatchResponse {
+
+    @Schema(description = "문서 ID", example = "1")
+    private Long documentId;
+
+    @Schema(description = "버전 ID", example = "1")
+    private Long versionId;
+
+    @Schema(description = "본문에서 찾은 용어 쪽 (원문 버전: SOURCE, 번역 버전: TARGET)", example = "SOURCE")
+    private String side;
+
+    @Schema(description = "원문 언어 코드", example = "EN")
+    private String sourceLang;
+
+    @Schema(description = "번역 언어 코드", example = "KO")
+    private String targetLang;
+
+    @Schema(description = "출현 횟수", example = "12")
+    private Integer matchCount;
+
+    @Schema(description = "용어 출현 목록 (시작 위치 순서)")
+    private List<TermHit> hits;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "용어 출현 위치")
+    public static class TermHit {
+        @Schema(description = "용어 ID", example = "1")
+        private Long termId;
+
+        @Schema(description = "원문 용어", example = "Spring Boot")
+        private String sourceTerm;
+
+        @Schema(description = "번역 용어", example = "스프링 부트")
+        private String targetTerm;
+
+        @Schema(description = "본문에 나타난 텍스트", example = "spring boot")
+        private String matchedText;
+
+        @Schema(description = "본문(content) 내 시작 위치 (포함)", example = "120")
+        private Integer start;
+
+        @Schema(description = "본문(content) 내 끝 위치 (미포함)", example = "131")
+        private Integer end;
+    }
+}
@@ -0,0 +1,14 @@
+package com.project.Transflow.term.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 용어 사전 변경 이벤트 (용어 추가/수정/삭제 시 언어 쌍 단위로 발행)
+ */
+@Getter
+@AllArgsConstructor
+public class TermDictionaryChangedEvent {
+    private final String sourceLang;
+    private final String targetLang;
+}
@@ -1,7 +1,10 @@
 package com.project.Transflow.term.repository;
 
 import com.project.Transflow.term.entity.TermDictionary;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,7 +12,17 @@ import java.util.Optional;
 
 @Repository
 public interface TermDictionaryRepository extends JpaRepository<TermDictionary, Long> {
+    // 캐시 스냅샷용 (생성자를 함께 조회하여 트랜잭션 밖에서도 응답 변환 가능)
+    @EntityGraph(attributePaths = "createdBy")
+    List<TermDictionary> findWithCreatorBy();
+    @EntityGraph(attributePaths = "createdBy")
+    List<TermDictionary> findWithCreatorBySourceLangAndTargetLang(String sourceLang, String targetLang);
     List<TermDictionary> findBySourceLangAndTargetLang(String sourceLang, String targetLang);
+    // 언어 부분(EN, PT 등)으로 조회 - 지역 코드가 붙은 값(EN-US, PT-BR)도 포함
+    @Query("SELECT t FROM TermDictionary t " +
+           "WHERE (UPPER(t.sourceLang) = :sourceLang OR UPPER(t.sourceLang) LIKE CONCAT(:sourceLang, '-%')) " +
+           "AND (UPPER(t.targetLang) = :targetLang OR UPPER(t.targetLang) LIKE CONCAT(:targetLang, '-%'))")
+    List<TermDictionary> findByBaseLanguages(@Param("sourceLang") String sourceLang, @Param("targetLang") String targetLang);
     List<TermDictionary> findBySourceLang(String sourceLang);
     List<TermDictionary> findByTargetLang(String targetLang);
     Optional<TermDictionary> findBySourceTermAndSourceLangAndTargetLang(String sourceTerm, String sourceLang, String targetLang);
@@ -0,0 +1,137 @@
+package com.project.Transflow.term.service;
+
+import com.project.Transflow.term.dto.TermDictionaryResponse;
+import com.project.Transflow.term.event.TermDictionaryChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 용어 사전 조회 캐시 (언어 쌍별 스냅샷 + 버전)
+ * 번역 편집기가 용어 목록을 자주 조회하므로 DB 대신 메모리 스냅샷을 반환
+ * - 버전은 용어가 바뀔 때마다 증가하는 값 (언어 쌍 버전 = 그 언어 쌍이 마지막으로 바뀐 시점의 전체 버전)
+ * - 용어 추가/수정/삭제 트랜잭션이 커밋되면 해당 언어 쌍 스냅샷과 전체 스냅샷을 버림
+ * - ETag는 (프로세스 시작 시각, 버전)으로 만들어 재시작 후에도 이전 ETag와 겹치지 않음
+ */
+@Slf4j
+@Component
+public class TermDictionaryCache {
+
+    private final long epoch = System.currentTimeMillis();
+    private final AtomicLong globalVersion = new AtomicLong();
+
+    // 언어 쌍 -> 마지막으로 바뀐 시점의 전체 버전
+    private final Map<String, Long> pairVersions = new ConcurrentHashMap<>();
+    // 언어 쌍 -> 스냅샷
+    private final Map<String, Snapshot> pairSnapshots = new ConcurrentHashMap<>();
+    // 전체 용어 스냅샷 (언어 쌍이 지정되지 않은 조회용)
+    private volatile Snapshot allSnapshot;
+
+    public long getPairVersion(String sourceLang, String targetLang) {
+        return pairVersions.getOrDefault(pairKey(sourceLang, targetLang), 0L);
+    }
+
+    public long getGlobalVersion() {
+        return globalVersion.get();
+    }
+
+    public String toETag(long version) {
+        return "\"terms-" + epoch + "-" + version + "\"";
+    }
+
+    /**
+     * 언어 쌍의 용어 목록 (스냅샷이 없으면 loader로 불러와서 저장)
+     */
+    public Snapshot getPair(String sourceLang, String targetLang, Supplier<List<TermDictionaryResponse>> loader) {
+        String key = pairKey(sourceLang, targetLang);
+        Snapshot snapshot = pairSnapshots.get(key);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        long version = getPairVersion(sourceLang, targetLang);
+        Snapshot loaded = new Snapshot(version, loader.get());
+        // 불러오는 동안 용어가 바뀌었으면 저장하지 않음 (다음 조회에서 새로 불러옴)
+        pairSnapshots.compute(key, (k, existing) ->
+                version == getPairVersion(sourceLang, targetLang) ? loaded : existing);
+        return loaded;
+    }
+
+    /**
+     * 전체 용어 목록 (스냅샷이 없으면 loader로 불러와서 저장)
+     */
+    public Snapshot getAll(Supplier<List<TermDictionaryResponse>> loader) {
+        Snapshot snapshot = allSnapshot;
+        if (snapshot != null) {
+            return snapshot;
+        }
+        long version = globalVersion.get();
+        Snapshot loaded = new Snapshot(version, loader.get());
+        synchronized (this) {
+            if (version == globalVersion.get()) {
+                allSnapshot = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 용어가 바뀐 언어 쌍의 스냅샷을 트랜잭션 커밋 후 버림
+     * 버전을 먼저 올린 뒤 버리므로 그 사이에 불러온 이전 데이터는 저장되지 않음
+     */
+    @TransactionalEventListener
+    public void onTermsChanged(TermDictionaryChangedEvent event) {
+        String key = pairKey(event.getSourceLang(), event.getTargetLang());
+        synchronized (this) {
+            long version = globalVersion.incrementAndGet();
+            pairVersions.put(key, version);
+            allSnapshot = null;
+        }
+        pairSnapshots.remove(key);
+        log.debug("용어 사전 캐시 무효화: {} (버전 {})", key, globalVersion.get());
+    }
+
+    private static String pairKey(String sourceLang, String targetLang) {
+        return sourceLang.toUpperCase() + "-" + targetLang.toUpperCase();
+    }
+
+    /**
+     * 특정 버전의 용어 목록 (변경 불가)
+     * 원문 용어 검색용 색인 포함 (DB 기본 정렬처럼 대소문자 구분 없음)
+     */
+    public static final class Snapshot {
+        private final long version;
+        private final List<TermDictionaryResponse> terms;
+        private final Map<String, TermDictionaryResponse> bySourceTerm;
+
+        Snapshot(long version, List<TermDictionaryResponse> terms) {
+            this.version = version;
+            this.terms = Collections.unmodifiableList(terms);
+            Map<String, TermDictionaryResponse> index = new HashMap<>();
+            for (TermDictionaryResponse term : terms) {
+                index.putIfAbsent(term.getSourceTerm().toLowerCase(), term);
+            }
+            this.bySourceTerm = index;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public List<TermDictionaryResponse> getTerms() {
+            return terms;
+        }
+
+        public Optional<TermDictionaryResponse> findBySourceTerm(String sourceTerm) {
+            return Optional.ofNullable(bySourceTerm.get(sourceTerm.toLowerCase()));
+        }
+    }
+}
@@ -4,11 +4,13 @@ import com.project.Transflow.term.dto.CreateTermRequest;
 import com.project.Transflow.term.dto.TermDictionaryResponse;
 import com.project.Transflow.term.dto.UpdateTermRequest;
 import com.project.Transflow.term.entity.TermDictionary;
+import com.project.Transflow.term.event.TermDictionaryChangedEvent;
 import com.project.Transflow.term.repository.TermDictionaryRepository;
 import com.project.Transflow.user.entity.User;
 import com.project.Transflow.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +25,8 @@ public class TermDictionaryService {
 
     private final TermDictionaryRepository termDictionaryRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TermDictionaryCache termDictionaryCache;
 
     @Transactional
     public TermDictionaryResponse createTerm(CreateTermRequest request, Long createdById) {
@@ -45,37 +49,60 @@ public class TermDictionaryService {
                 .build();
 
         TermDictionary saved = termDictionaryRepository.save(term);
+        publishChanged(saved);
         log.info("용어 사전 추가: {} -> {} ({} -> {})", request.getSourceTerm(), request.getTargetTerm(), 
                 request.getSourceLang(), request.getTargetLang());
         return toResponse(saved);
     }
 
-    @Transactional(readOnly = true)
+    // 목록/검색 조회는 캐시 스냅샷에서 반환 (용어가 바뀌기 전까지 DB 조회 없음)
     public List<TermDictionaryResponse> findAll() {
-        return termDictionaryRepository.findAll().stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return termDictionaryCache.getAll(this::loadAll).getTerms();
     }
 
-    @Transactional(readOnly = true)
     public List<TermDictionaryResponse> findByLanguages(String sourceLang, String targetLang) {
-        return termDictionaryRepository.findBySourceLangAndTargetLang(sourceLang, targetLang).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return findSnapshot(sourceLang, targetLang).getTerms();
     }
 
-    @Transactional(readOnly = true)
     public List<TermDictionaryResponse> findBySourceLang(String sourceLang) {
-        return termDictionaryRepository.findBySourceLang(sourceLang).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return findSnapshot(sourceLang, null).getTerms();
     }
 
-    @Transactional(readOnly = true)
     public List<TermDictionaryResponse> findByTargetLang(String targetLang) {
-        return termDictionaryRepository.findByTargetLang(targetLang).stream()
-                .map(this::toResponse)
+        return findSnapshot(null, targetLang).getTerms();
+    }
+
+    /**
+     * 목록 조회 스냅샷 (언어 쌍이 모두 지정되면 언어 쌍 스냅샷, 아니면 전체 스냅샷을 언어로 거른 결과)
+     * 스냅샷 버전은 ETag 생성에 사용
+     */
+    public TermDictionaryCache.Snapshot findSnapshot(String sourceLang, String targetLang) {
+        if (sourceLang != null && targetLang != null) {
+            return termDictionaryCache.getPair(sourceLang, targetLang, () -> loadPair(sourceLang, targetLang));
+        }
+        TermDictionaryCache.Snapshot all = termDictionaryCache.getAll(this::loadAll);
+        if (sourceLang == null && targetLang == null) {
+            return all;
+        }
+        List<TermDictionaryResponse> filtered = all.getTerms().stream()
+                .filter(term -> sourceLang == null || sourceLang.equalsIgnoreCase(term.getSourceLang()))
+                .filter(term -> targetLang == null || targetLang.equalsIgnoreCase(term.getTargetLang()))
                 .collect(Collectors.toList());
+        return new TermDictionaryCache.Snapshot(all.getVersion(), filtered);
+    }
+
+    /**
+     * 현재 목록 버전 (언어 쌍이 모두 지정되면 언어 쌍 버전, 아니면 전체 버전) - DB를 조회하지 않음
+     */
+    public long getCurrentVersion(String sourceLang, String targetLang) {
+        if (sourceLang != null && targetLang != null) {
+            return termDictionaryCache.getPairVersion(sourceLang, targetLang);
+        }
+        return termDictionaryCache.getGlobalVersion();
+    }
+
+    public String toETag(long version) {
+        return termDictionaryCache.toETag(version);
     }
 
     @Transactional(readOnly = true)
@@ -84,10 +111,8 @@ public class TermDictionaryService {
                 .map(this::toResponse);
     }
 
-    @Transactional(readOnly = true)
     public Optional<TermDictionaryResponse> findBySourceTerm(String sourceTerm, String sourceLang, String targetLang) {
-        return termDictionaryRepository.findBySourceTermAndSourceLangAndTargetLang(sourceTerm, sourceLang, targetLang)
-                .map(this::toResponse);
+        return findSnapshot(sourceLang, targetLang).findBySourceTerm(sourceTerm);
     }
 
     @Transactional
@@ -114,6 +139,7 @@ public class TermDictionaryService {
         }
 
         TermDictionary saved = termDictionaryRepository.save(term);
+        publishChanged(saved);
         log.info("용어 사전 수정: {} (id: {})", saved.getSourceTerm(), id);
         return toResponse(saved);
     }
@@ -124,9 +150,29 @@ public class TermDictionaryService {
                 .orElseThrow(() -> new IllegalArgumentException("용어를 찾을 수 없습니다: " + id));
 
         termDictionaryRepository.delete(term);
+        publishChanged(term);
         log.info("용어 사전 삭제: {} -> {} (id: {})", term.getSourceTerm(), term.getTargetTerm(), id);
     }
 
+    private List<TermDictionaryResponse> loadAll() {
+        return termDictionaryRepository.findWithCreatorBy().stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    private List<TermDictionaryResponse> loadPair(String sourceLang, String targetLang) {
+        return termDictionaryRepository.findWithCreatorBySourceLangAndTargetLang(sourceLang, targetLang).stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 언어 쌍의 용어가 바뀌었음을 알림 (트랜잭션 커밋 후 조회 캐시 무효화, DeepL 용어집 동기화 등에서 사용)
+     */
+    private void publishChanged(TermDictionary term) {
+        eventPublisher.publishEvent(new TermDictionaryChangedEvent(term.getSourceLang(), term.getTargetLang()));
+    }
+
     private TermDictionaryResponse toResponse(TermDictionary term) {
         TermDictionaryResponse.TermDictionaryResponseBuilder builder = TermDictionaryResponse.builder()
                 .id(term.getId())
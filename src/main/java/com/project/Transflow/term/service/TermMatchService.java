@@ -0,0 +1,185 @@
+package com.project.Transflow.term.service;
+
+import com.project.Transflow.document.entity.Document;
+import com.project.Transflow.document.entity.DocumentVersion;
+import com.project.Transflow.document.repository.DocumentVersionRepository;
+import com.project.Transflow.term.dto.TermMatchResponse;
+import com.project.Transflow.term.event.TermDictionaryChangedEvent;
+import com.project.Transflow.term.repository.TermDictionaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 문서 본문에서 용어 사전 용어 찾기
+ * 언어 쌍(과 원문/번역 쪽)마다 TermMatcher를 메모리에 만들어 두고 재사용
+ * DeepL 용어집과 같이 언어 부분 기준으로 만들므로 EN, EN-US, EN-GB로 저장된 용어는 모두 EN 매처에 들어감
+ * 매처 생성(DB 조회 포함)은 맵 잠금 밖에서 실행하고, 같은 매처를 동시에 요청한 스레드는 먼저 시작한 생성을 기다림
+ * 용어가 바뀌면 해당 언어 쌍의 매처만 별도 스레드에서 다시 만들고, 다 만들어지면 교체
+ * (용어 수정 요청이 매처 생성을 기다리지 않도록 하며, 교체 전까지는 이전 매처로 검색)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TermMatchService {
+
+    private final TermDictionaryRepository termDictionaryRepository;
+    private final DocumentVersionRepository documentVersionRepository;
+
+    // "원문 언어|번역 언어|쪽" -> 매처 (생성 중이면 완료되지 않은 Future)
+    private final Map<String, CompletableFuture<TermMatcher>> matchers = new ConcurrentHashMap<>();
+    // 다시 만들기를 기다리는 매처 키 (연속된 용어 수정은 한 번의 재생성으로 합침)
+    private final Set<String> pendingRebuilds = ConcurrentHashMap.newKeySet();
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "term-matcher-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 언어 쌍의 매처 조회 (없으면 용어 사전에서 만듦)
+     * 생성에 실패하면 맵에서 지우므로 다음 조회에서 다시 만듦
+     */
+    public TermMatcher getMatcher(String sourceLang, String targetLang, TermMatcher.Side side) {
+        String source = toBaseLang(sourceLang);
+        String target = toBaseLang(targetLang);
+        String key = matcherKey(source, target, side);
+
+        CompletableFuture<TermMatcher> future = matchers.get(key);
+        if (future == null) {
+            CompletableFuture<TermMatcher> created = new CompletableFuture<>();
+            future = matchers.putIfAbsent(key, created);
+            if (future == null) {
+                future = created;
+                try {
+                    created.complete(build(source, target, side));
+                } catch (RuntimeException e) {
+                    matchers.remove(key, created);
+                    created.completeExceptionally(e);
+                }
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    /**
+     * 문서 버전 본문의 모든 용어 출현 위치
+     * 원문 버전(ORIGINAL)은 원문 용어, 그 외 버전은 번역 용어를 찾으며 HTML 태그 안은 건너뜀
+     */
+    @Transactional(readOnly = true)
+    public TermMatchResponse findInDocumentVersion(Long documentId, Long versionId) {
+        DocumentVersion version = documentVersionRepository.findById(versionId)
+                .filter(v -> v.getDocument().getId().equals(documentId))
+                .orElseThrow(() -> new IllegalArgumentException("버전을 찾을 수 없습니다: " + versionId));
+        Document document = version.getDocument();
+
+        TermMatcher.Side side = "ORIGINAL".equals(version.getVersionType())
+                ? TermMatcher.Side.SOURCE : TermMatcher.Side.TARGET;
+        TermMatcher matcher = getMatcher(document.getSourceLang(), document.getTargetLang(), side);
+
+        String content = version.getContent();
+        List<TermMatchResponse.TermHit> hits = new ArrayList<>();
+        for (TermMatcher.Match match : matcher.findAll(content, true)) {
+            String matchedText = content.substring(match.getStart(), match.getEnd());
+            for (TermMatcher.Term term : match.getTerms()) {
+                hits.add(TermMatchResponse.TermHit.builder()
+                        .termId(term.getId())
+                        .sourceTerm(term.getSourceTerm())
+                        .targetTerm(term.getTargetTerm())
+                        .matchedText(matchedText)
+                        .start(match.getStart())
+                        .end(match.getEnd())
+                        .build());
+            }
+        }
+
+        return TermMatchResponse.builder()
+                .documentId(documentId)
+                .versionId(versionId)
+                .side(side.name())
+                .sourceLang(document.getSourceLang())
+                .targetLang(document.getTargetLang())
+                .matchCount(hits.size())
+                .hits(hits)
+                .build();
+    }
+
+    /**
+     * 용어가 바뀐 언어 쌍의 매처를 트랜잭션 커밋 후 다시 만들도록 예약 (아직 만들지 않은 매처는 다음 조회 때 생성)
+     * 커밋한 요청 스레드에서는 예약만 하고 바로 반환
+     */
+    @TransactionalEventListener
+    public void onTermsChanged(TermDictionaryChangedEvent event) {
+        String source = toBaseLang(event.getSourceLang());
+        String target = toBaseLang(event.getTargetLang());
+        for (TermMatcher.Side side : TermMatcher.Side.values()) {
+            String key = matcherKey(source, target, side);
+            if (matchers.containsKey(key) && pendingRebuilds.add(key)) {
+                rebuildExecutor.execute(() -> rebuild(key, source, target, side));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * 매처를 다시 만든 뒤 교체
+     * 용어를 읽기 전에 대기 표시를 지우므로, 만드는 도중에 커밋된 수정은 다음 재생성에 반영됨
+     */
+    private void rebuild(String key, String source, String target, TermMatcher.Side side) {
+        pendingRebuilds.remove(key);
+        try {
+            TermMatcher matcher = build(source, target, side);
+            matchers.replace(key, CompletableFuture.completedFuture(matcher));
+        } catch (Exception e) {
+            // 이전 매처를 계속 쓰지 않도록 버리고 다음 조회 때 새로 만듦
+            log.warn("용어 매처 재생성 실패: {} ({})", key, e.getMessage());
+            matchers.remove(key);
+        }
+    }
+
+    /**
+     * 언어 부분으로 용어를 조회하여 매처 생성 (DeepL 용어집 동기화와 같은 조회)
+     */
+    private TermMatcher build(String source, String target, TermMatcher.Side side) {
+        long startTime = System.currentTimeMillis();
+        TermMatcher matcher = TermMatcher.build(
+                termDictionaryRepository.findByBaseLanguages(source, target), side);
+        log.info("용어 매처 생성: {} -> {} ({}, {}개 용어, {}ms)", source, target, side,
+                matcher.getTermCount(), System.currentTimeMillis() - startTime);
+        return matcher;
+    }
+
+    /**
+     * 언어 코드의 언어 부분 (EN-US, PT-BR 같은 지역 코드는 언어 부분만 사용)
+     */
+    private static String toBaseLang(String lang) {
+        String upper = lang.toUpperCase();
+        int dash = upper.indexOf('-');
+        return dash > 0 ? upper.substring(0, dash) : upper;
+    }
+
+    private static String matcherKey(String source, String target, TermMatcher.Side side) {
+        return source + "|" + target + "|" + side;
+    }
+}
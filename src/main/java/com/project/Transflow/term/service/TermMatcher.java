@@ -0,0 +1,330 @@
+package com.project.Transflow.term.service;
+
+import com.project.Transflow.term.entity.TermDictionary;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 용어 사전 다중 패턴 매처 (Aho-Corasick 오토마톤)
+ * 용어 수와 관계없이 본문을 한 번만 훑어서 모든 용어 출현 위치를 찾음
+ * - 대소문자 구분 없음, 공백 문자(줄바꿈, 탭, &nbsp; 문자 등)는 모두 공백 하나로 취급
+ * - 영문/숫자로 시작하거나 끝나는 용어는 단어 중간에서 매칭하지 않음 (API가 RAPID 안에서 잡히지 않도록)
+ * - 겹치는 매칭은 먼저 시작하는 것, 같은 위치면 긴 것을 선택
+ * 만든 뒤에는 변경되지 않으므로 여러 스레드에서 동시에 사용 가능
+ */
+public final class TermMatcher {
+
+    /**
+     * 매칭할 용어 쪽 (원문 용어 / 번역 용어)
+     */
+    public enum Side {
+        SOURCE, TARGET
+    }
+
+    private static final int ROOT = 0;
+
+    private final Side side;
+    private final int termCount;
+
+    // 노드별 전이 (문자 오름차순, 이진 탐색)
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] fail;
+    // 실패 링크를 따라가며 처음 만나는 출력 노드 (없으면 -1)
+    private final int[] outputLink;
+    // 노드에서 끝나는 패턴 번호 (없으면 -1)
+    private final int[] patternAt;
+
+    private final char[][] patterns;
+    private final List<List<Term>> patternTerms;
+
+    private TermMatcher(Side side, Map<String, List<Term>> termsByPattern, int termCount) {
+        this.side = side;
+        this.termCount = termCount;
+        this.patterns = new char[termsByPattern.size()][];
+        this.patternTerms = new ArrayList<>(termsByPattern.size());
+
+        // 1. 트라이 구성
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<Integer> patternIndexes = new ArrayList<>();
+        children.add(new TreeMap<>());
+        patternIndexes.add(-1);
+        int patternIndex = 0;
+        for (Map.Entry<String, List<Term>> entry : termsByPattern.entrySet()) {
+            char[] pattern = entry.getKey().toCharArray();
+            int node = ROOT;
+            for (char c : pattern) {
+                Integer next = children.get(node).get(c);
+                if (next == null) {
+                    next = children.size();
+                    children.get(node).put(c, next);
+                    children.add(new TreeMap<>());
+                    patternIndexes.add(-1);
+                }
+                node = next;
+            }
+            patternIndexes.set(node, patternIndex);
+            patterns[patternIndex] = pattern;
+            patternTerms.add(entry.getValue());
+            patternIndex++;
+        }
+
+        int nodeCount = children.size();
+        this.edgeChars = new char[nodeCount][];
+        this.edgeTargets = new int[nodeCount][];
+        this.patternAt = new int[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            TreeMap<Character, Integer> edges = children.get(node);
+            edgeChars[node] = new char[edges.size()];
+            edgeTargets[node] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeChars[node][i] = edge.getKey();
+                edgeTargets[node][i] = edge.getValue();
+                i++;
+            }
+            patternAt[node] = patternIndexes.get(node);
+        }
+
+        // 2. 실패 링크 / 출력 링크 (너비 우선)
+        this.fail = new int[nodeCount];
+        this.outputLink = new int[nodeCount];
+        outputLink[ROOT] = -1;
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : edgeTargets[ROOT]) {
+            fail[child] = ROOT;
+            outputLink[child] = -1;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < edgeChars[node].length; i++) {
+                char c = edgeChars[node][i];
+                int child = edgeTargets[node][i];
+                int state = fail[node];
+                int next = transition(state, c);
+                while (next < 0 && state != ROOT) {
+                    state = fail[state];
+                    next = transition(state, c);
+                }
+                fail[child] = next >= 0 ? next : ROOT;
+                outputLink[child] = patternAt[fail[child]] >= 0 ? fail[child] : outputLink[fail[child]];
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * 언어 쌍의 용어들로 매처 생성
+     *
+     * @param side 원문 용어와 번역 용어 중 본문에서 찾을 쪽
+     */
+    public static TermMatcher build(List<TermDictionary> terms, Side side) {
+        // 정규화 결과가 같은 용어(예: 번역 용어가 같은 여러 원문 용어)는 패턴 하나를 공유
+        Map<String, List<Term>> termsByPattern = new LinkedHashMap<>();
+        int count = 0;
+        for (TermDictionary term : terms) {
+            String text = side == Side.SOURCE ? term.getSourceTerm() : term.getTargetTerm();
+            String pattern = normalize(text);
+            if (pattern.isEmpty()) {
+                continue;
+            }
+            termsByPattern.computeIfAbsent(pattern, key -> new ArrayList<>())
+                    .add(new Term(term.getId(), term.getSourceTerm(), term.getTargetTerm()));
+            count++;
+        }
+        return new TermMatcher(side, termsByPattern, count);
+    }
+
+    public Side getSide() {
+        return side;
+    }
+
+    public int getTermCount() {
+        return termCount;
+    }
+
+    /**
+     * 텍스트에서 모든 용어 출현 위치 찾기
+     *
+     * @param ignoreMarkup true면 HTML 태그(<...>) 안은 건너뛰고, 태그를 사이에 둔 용어는 매칭하지 않음
+     * @return 시작 위치 순서의 매칭 목록 (겹치지 않음)
+     */
+    public List<Match> findAll(String text, boolean ignoreMarkup) {
+        List<int[]> candidates = new ArrayList<>(); // {시작, 끝, 패턴 번호}
+        int length = text.length();
+        // 오토마톤에 넣은 k번째 문자의 원래 위치 (연속 공백은 하나만 넣으므로 위치가 어긋날 수 있음)
+        int[] positions = new int[length];
+        int fed = 0;
+        boolean lastWasSpace = false;
+        int state = ROOT;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (ignoreMarkup && c == '<') {
+                int close = text.indexOf('>', i);
+                if (close < 0) {
+                    break;
+                }
+                i = close;
+                state = ROOT;
+                lastWasSpace = false;
+                continue;
+            }
+            c = normalizeChar(c);
+            if (c == ' ') {
+                if (lastWasSpace) {
+                    continue;
+                }
+                lastWasSpace = true;
+            } else {
+                lastWasSpace = false;
+            }
+            positions[fed++] = i;
+
+            int next = transition(state, c);
+            while (next < 0 && state != ROOT) {
+                state = fail[state];
+                next = transition(state, c);
+            }
+            state = next >= 0 ? next : ROOT;
+
+            int node = patternAt[state] >= 0 ? state : outputLink[state];
+            while (node >= 0) {
+                int pattern = patternAt[node];
+                int start = positions[fed - patterns[pattern].length];
+                if (isWordBoundary(text, start, i + 1, patterns[pattern])) {
+                    candidates.add(new int[]{start, i + 1, pattern});
+                }
+                node = outputLink[node];
+            }
+        }
+
+        // 먼저 시작하는 것, 같은 위치면 긴 것 우선으로 겹치지 않게 선택
+        candidates.sort(Comparator.<int[]>comparingInt(candidate -> candidate[0])
+                .thenComparingInt(candidate -> -candidate[1]));
+        List<Match> matches = new ArrayList<>();
+        int lastEnd = 0;
+        for (int[] candidate : candidates) {
+            if (candidate[0] < lastEnd) {
+                continue;
+            }
+            matches.add(new Match(candidate[0], candidate[1], patternTerms.get(candidate[2])));
+            lastEnd = candidate[1];
+        }
+        return matches;
+    }
+
+    private int transition(int node, char c) {
+        int index = Arrays.binarySearch(edgeChars[node], c);
+        return index >= 0 ? edgeTargets[node][index] : -1;
+    }
+
+    /**
+     * 영문/숫자로 시작(끝)나는 용어는 앞(뒤) 글자도 영문/숫자이면 단어 일부로 보고 제외
+     */
+    private static boolean isWordBoundary(String text, int start, int end, char[] pattern) {
+        if (isAsciiWordChar(pattern[0]) && start > 0 && isAsciiWordChar(text.charAt(start - 1))) {
+            return false;
+        }
+        return !(isAsciiWordChar(pattern[pattern.length - 1]) && end < text.length()
+                && isAsciiWordChar(text.charAt(end)));
+    }
+
+    private static boolean isAsciiWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private static char normalizeChar(char c) {
+        return Character.isWhitespace(c) || Character.isSpaceChar(c) ? ' ' : Character.toLowerCase(c);
+    }
+
+    /**
+     * 용어 정규화 (소문자, 연속 공백은 하나로)
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean lastWasSpace = true;
+        for (int i = 0; i < text.length(); i++) {
+            char c = normalizeChar(text.charAt(i));
+            if (c == ' ') {
+                if (!lastWasSpace) {
+                    normalized.append(' ');
+                }
+                lastWasSpace = true;
+            } else {
+                normalized.append(c);
+                lastWasSpace = false;
+            }
+        }
+        int end = normalized.length();
+        if (end > 0 && normalized.charAt(end - 1) == ' ') {
+            normalized.setLength(end - 1);
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * 매처에 등록된 용어 (엔티티 대신 필요한 값만 보관)
+     */
+    public static final class Term {
+        private final Long id;
+        private final String sourceTerm;
+        private final String targetTerm;
+
+        Term(Long id, String sourceTerm, String targetTerm) {
+            this.id = id;
+            this.sourceTerm = sourceTerm;
+            this.targetTerm = targetTerm;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getSourceTerm() {
+            return sourceTerm;
+        }
+
+        public String getTargetTerm() {
+            return targetTerm;
+        }
+    }
+
+    /**
+     * 매칭 결과 [start, end) 와 해당 위치에서 찾은 용어들
+     */
+    public static final class Match {
+        private final int start;
+        private final int end;
+        private final List<Term> terms;
+
+        Match(int start, int end, List<Term> terms) {
+            this.start = start;
+            this.end = end;
+            this.terms = terms;
+        }
+
+        public int getStart() {
+            return start;
+        }
+
+        public int getEnd() {
+            return end;
+        }
+
+        public List<Term> getTerms() {
+            return terms;
+        }
+    }
+}
@@ -2,13 +2,31 @@ package com.project.Transflow.translate.controller;
 
 
 import com.project.Transflow.translate.dto.HtmlTranslationRequest;
+import com.project.Transflow.translate.dto.TranslationJobResponse;
 import com.project.Transflow.translate.dto.TranslationRequest;
 import com.project.Transflow.translate.dto.TranslationResponse;
+import com.project.Transflow.translate.service.CrawlCacheService;
+import com.project.Transflow.translate.service.CrawlMetrics;
+import com.project.Transflow.translate.service.CrawlerEngineInitializer;
+import com.project.Transflow.translate.service.CrawlerExecutor;
+import com.project.Transflow.translate.service.CrawlerService;
+import com.project.Transflow.translate.service.DeepLGlossaryService;
+import com.project.Transflow.translate.service.DeepLRateLimiter;
+import com.project.Transflow.translate.service.StylesheetCache;
 import com.project.Transflow.translate.service.TransflowService;
+import com.project.Transflow.translate.service.TranslationJobService;
+import com.project.Transflow.translate.service.TranslationMemoryService;
+import com.project.Transflow.translate.service.TranslationStreamService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Slf4j
 @RestController
@@ -17,6 +35,17 @@ import org.springframework.web.bind.annotation.*;
 public class TranslationController {
 
     private final TransflowService transflowService;
+    private final CrawlerService crawlerService;
+    private final CrawlerExecutor crawlerExecutor;
+    private final StylesheetCache stylesheetCache;
+    private final CrawlMetrics crawlMetrics;
+    private final CrawlCacheService crawlCacheService;
+    private final CrawlerEngineInitializer crawlerEngineInitializer;
+    private final DeepLRateLimiter deepLRateLimiter;
+    private final TranslationMemoryService translationMemoryService;
+    private final DeepLGlossaryService deepLGlossaryService;
+    private final TranslationStreamService translationStreamService;
+    private final TranslationJobService translationJobService;
 
     @PostMapping("/webpage")
     public ResponseEntity<TranslationResponse> translateWebPage(@RequestBody TranslationRequest request) {
@@ -31,6 +60,81 @@ public class TranslationController {
         }
     }
 
+    /**
+     * 웹페이지 번역 스트리밍 (SSE)
+     * 원본 HTML을 먼저 보내고 블록 번역이 끝나는 대로 이어서 보냄 (original -> block... -> complete | error)
+     */
+    @PostMapping(value = "/webpage/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> translateWebPageStream(@RequestBody TranslationRequest request) {
+        log.info("스트리밍 번역 요청 받음 - URL: {}, Target: {}", request.getUrl(), request.getTargetLang());
+        return ResponseEntity.ok(translationStreamService.translateWebPage(request));
+    }
+
+    /**
+     * 웹페이지 번역 작업 등록 (즉시 작업 ID 반환, 진행 상황은 조회 또는 구독)
+     */
+    @PostMapping("/jobs")
+    public ResponseEntity<TranslationJobResponse> submitJob(@RequestBody TranslationRequest request) {
+        log.info("번역 작업 요청 받음 - URL: {}, Target: {}", request.getUrl(), request.getTargetLang());
+        try {
+            TranslationJobResponse response = translationJobService.submit(request);
+            if (TranslationJobService.STATUS_FAILED.equals(response.getStatus())) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+            }
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/jobs/stats")
+    public ResponseEntity<Map<String, Object>> jobStats() {
+        return ResponseEntity.ok(translationJobService.getStats());
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<TranslationJobResponse> getJob(@PathVariable Long jobId) {
+        try {
+            return ResponseEntity.ok(translationJobService.getJob(jobId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @GetMapping("/jobs/{jobId}/result")
+    public ResponseEntity<TranslationResponse> getJobResult(@PathVariable Long jobId) {
+        try {
+            return ResponseEntity.ok(translationJobService.getResult(jobId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @PostMapping("/jobs/{jobId}/retry")
+    public ResponseEntity<TranslationJobResponse> retryJob(@PathVariable Long jobId) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(translationJobService.retry(jobId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    /**
+     * 번역 작업 진행 상황 구독 (SSE: progress... -> completed | failed)
+     */
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeJob(@PathVariable Long jobId) {
+        try {
+            return ResponseEntity.ok(translationJobService.subscribe(jobId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     @PostMapping("/html")
     public ResponseEntity<TranslationResponse> translateHtml(@RequestBody HtmlTranslationRequest request) {
         log.info("HTML 직접 번역 요청 - HTML 길이: {}", request.getHtml().length());
@@ -43,6 +147,34 @@ public class TranslationController {
         }
     }
 
+    @GetMapping("/crawler/stats")
+    public ResponseEntity<Map<String, Object>> crawlerStats() {
+        Map<String, Object> stats = new LinkedHashMap<>(crawlerExecutor.getStats());
+        stats.put("coalescing", crawlerService.getCoalescingStats());
+        stats.put("stylesheetCache", stylesheetCache.getStats());
+        stats.put("traffic", crawlMetrics.getStats());
+        stats.put("crawlCache", crawlCacheService.getStats());
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping("/deepl/stats")
+    public ResponseEntity<Map<String, Object>> deepLStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("rateLimit", deepLRateLimiter.getStats());
+        stats.put("translationMemory", translationMemoryService.getStats());
+        stats.put("glossary", deepLGlossaryService.getStats());
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping("/health/crawler")
+    public ResponseEntity<Map<String, Object>> crawlerHealth() {
+        Map<String, Object> health = crawlerEngineInitializer.getHealth();
+        if (crawlerEngineInitializer.isReady()) {
+            return ResponseEntity.ok(health);
+        }
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(health);
+    }
+
     @GetMapping("/health")
     public ResponseEntity<String> health() {
         return ResponseEntity.ok("Translation service is running!");
@@ -0,0 +1,41 @@
+package com.project.Transflow.translate.dto;
+
+import java.util.Set;
+
+/**
+ * 크롤링 프로필 - 페이지 로드 시 어떤 리소스를 차단할지 결정
+ */
+public enum CrawlProfile {
+    // 모든 리소스 로드 (기본값)
+    FULL(Set.of(), false, true),
+    // 레이아웃 재현에 필요한 HTML/CSS만 로드 (이미지, 폰트, 미디어, 광고/분석 차단)
+    STYLES_ONLY(Set.of("image", "media", "font"), true, true),
+    // 텍스트만 필요할 때 (CSS까지 차단하고 CSS 추출도 생략)
+    TEXT_ONLY(Set.of("image", "media", "font", "stylesheet"), true, false);
+
+    private final Set<String> blockedResourceTypes;
+    private final boolean blockTrackers;
+    private final boolean extractCss;
+
+    CrawlProfile(Set<String> blockedResourceTypes, boolean blockTrackers, boolean extractCss) {
+        this.blockedResourceTypes = blockedResourceTypes;
+        this.blockTrackers = blockTrackers;
+        this.extractCss = extractCss;
+    }
+
+    public Set<String> getBlockedResourceTypes() {
+        return blockedResourceTypes;
+    }
+
+    public boolean isBlockTrackers() {
+        return blockTrackers;
+    }
+
+    public boolean isExtractCss() {
+        return extractCss;
+    }
+
+    public boolean blocksAnything() {
+        return blockTrackers || !blockedResourceTypes.isEmpty();
+    }
+}
@@ -0,0 +1,19 @@
+package com.project.Transflow.translate.dto;
+
+import lombok.Data;
+import java.util.List;
+
+@Data
+public class DeepLGlossaryResponse {
+    private String glossary_id;
+    private String name;
+    private String source_lang;
+    private String target_lang;
+    private Integer entry_count;
+    private String creation_time;
+
+    @Data
+    public static class GlossaryList {
+        private List<DeepLGlossaryResponse> glossaries;
+    }
+}
@@ -0,0 +1,15 @@
+package com.project.Transflow.translate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * HTML 번역 결과 (하나의 DOM에서 직렬화와 텍스트 추출을 함께 수행한 결과)
+ */
+@Getter
+@AllArgsConstructor
+public class HtmlTranslationResult {
+    private final String translatedHtml;
+    private final String originalText; // 번역 전 본문 텍스트
+    private final String translatedText; // 번역 후 본문 텍스트
+}
@@ -0,0 +1,24 @@
+package com.project.Transflow.translate.dto;
+
+/**
+ * DeepL 태그 처리 방식 - 텍스트에 포함된 태그를 번역하지 않고 위치만 유지할지 결정
+ */
+public enum TagHandling {
+    // 일반 텍스트로 번역 (기본값)
+    NONE(null),
+    // XML 태그를 유지하며 번역 (텍스트 노드 위치를 <x id="n"> 자리표시 태그로 표시)
+    XML("xml");
+
+    private final String parameter;
+
+    TagHandling(String parameter) {
+        this.parameter = parameter;
+    }
+
+    /**
+     * DeepL tag_handling 파라미터 값 (NONE이면 null)
+     */
+    public String getParameter() {
+        return parameter;
+    }
+}
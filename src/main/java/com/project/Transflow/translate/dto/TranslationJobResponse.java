@@ -0,0 +1,33 @@
+package com.project.Transflow.translate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TranslationJobResponse {
+    private Long jobId;
+    private String url;
+    private String targetLang;
+    private String sourceLang;
+
+    private String status; // QUEUED, CRAWLING, TRANSLATING, COMPLETED, FAILED
+    private String failedStage; // CRAWL, TRANSLATE
+    private String errorMessage;
+
+    // 진행률
+    private int segmentsDone;
+    private int segmentsTotal;
+    private long charactersSent;
+    private int attempts;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+}
@@ -12,4 +12,5 @@ public class TranslationRequest {
     private String url;
     private String targetLang; // EN, KO, JA 등
     private String sourceLang; // 선택사항 (auto-detect 가능)
+    private CrawlProfile crawlProfile; // 선택사항 (기본값 FULL, 레이아웃을 이미 알고 있으면 STYLES_ONLY)
 }
@@ -0,0 +1,50 @@
+package com.project.Transflow.translate.entity;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "crawl_cache")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CrawlCache {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String cacheKey; // SHA-256(크롤링 프로필 + URL)
+
+    @Column(nullable = false, length = 2000)
+    private String url; // 요청 URL
+
+    @Column(length = 2000)
+    private String finalUrl; // 리다이렉트 후 최종 URL
+
+    @Column(nullable = false, length = 20)
+    private String crawlProfile; // FULL, STYLES_ONLY, TEXT_ONLY
+
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String html;
+
+    @Column(columnDefinition = "LONGTEXT")
+    private String css;
+
+    @Column(length = 255)
+    private String etag; // 재검증용 ETag
+
+    @Column(length = 100)
+    private String lastModified; // 재검증용 Last-Modified
+
+    @Column(nullable = false)
+    private LocalDateTime fetchedAt; // 브라우저로 크롤링한 시점
+
+    @Column(nullable = false)
+    private LocalDateTime validatedAt; // 마지막으로 원본과 동일함을 확인한 시점
+}
@@ -0,0 +1,86 @@
+package com.project.Transflow.translate.entity;
+
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "translation_job")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TranslationJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 2000)
+    private String url;
+
+    @Column(length = 10)
+    private String targetLang; // NONE이면 크롤링만 수행
+
+    @Column(length = 10)
+    private String sourceLang;
+
+    @Column(nullable = false, length = 20)
+    private String crawlProfile; // FULL, STYLES_ONLY, TEXT_ONLY
+
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private String status = "QUEUED"; // QUEUED, CRAWLING, TRANSLATING, COMPLETED, FAILED
+
+    @Column(length = 20)
+    private String failedStage; // CRAWL, TRANSLATE (재시도 시 이 단계부터 다시 실행)
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer segmentsDone = 0; // 번역이 반영된 문맥 그룹 수
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer segmentsTotal = 0; // 전체 문맥 그룹 수
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long charactersSent = 0L; // DeepL 요청에 담긴 텍스트 길이
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0; // 실행 횟수 (재시도 포함)
+
+    @Column(columnDefinition = "LONGTEXT")
+    private String originalHtml; // 크롤링 단계 결과
+
+    @Column(columnDefinition = "LONGTEXT")
+    private String css;
+
+    @Column(columnDefinition = "LONGTEXT")
+    private String translatedHtml; // 번역 단계 결과
+
+    @Column(columnDefinition = "LONGTEXT")
+    private String originalText; // 원본 본문 텍스트 (결과 조회 시 HTML을 다시 파싱하지 않도록 저장)
+
+    @Column(columnDefinition = "LONGTEXT")
+    private String translatedText; // 번역된 본문 텍스트
+
+    @Column(length = 2000)
+    private String errorMessage;
+
+    @Column
+    private LocalDateTime completedAt;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
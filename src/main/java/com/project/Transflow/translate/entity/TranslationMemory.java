@@ -0,0 +1,44 @@
+package com.project.Transflow.translate.entity;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "translation_memory")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TranslationMemory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String memoryKey; // SHA-256(원본 언어 + 대상 언어 + 용어집 버전 + 태그 처리 방식 + 정규화된 원문)
+
+    @Column(nullable = false, length = 10)
+    private String sourceLang; // 자동 감지면 AUTO
+
+    @Column(nullable = false, length = 10)
+    private String targetLang;
+
+    @Column(nullable = false, length = 100)
+    private String glossaryVersion; // 번역 시 적용된 용어집 버전
+
+    @Column(nullable = false, length = 10)
+    private String tagHandling; // NONE, XML
+
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String sourceText; // 정규화된 원문
+
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String translatedText;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,22 @@
+package com.project.Transflow.translate.repository;
+
+import com.project.Transflow.translate.entity.CrawlCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface CrawlCacheRepository extends JpaRepository<CrawlCache, Long> {
+    Optional<CrawlCache> findByCacheKey(String cacheKey);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM CrawlCache c WHERE c.validatedAt < :cutoff")
+    int deleteByValidatedAtBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,29 @@
+package com.project.Transflow.translate.repository;
+
+import com.project.Transflow.translate.entity.TranslationJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TranslationJobRepository extends JpaRepository<TranslationJob, Long> {
+    List<TranslationJob> findByStatusInOrderByIdAsc(Collection<String> statuses);
+
+    // 진행률 컬럼만 갱신 (원문 HTML/CSS 등 큰 컬럼은 다시 쓰지 않음)
+    @Modifying
+    @Transactional
+    @Query("UPDATE TranslationJob j SET j.segmentsDone = :segmentsDone, j.segmentsTotal = :segmentsTotal, " +
+           "j.charactersSent = :charactersSent, j.updatedAt = :updatedAt WHERE j.id = :id")
+    int updateProgress(@Param("id") Long id,
+                       @Param("segmentsDone") int segmentsDone,
+                       @Param("segmentsTotal") int segmentsTotal,
+                       @Param("charactersSent") long charactersSent,
+                       @Param("updatedAt") LocalDateTime updatedAt);
+}
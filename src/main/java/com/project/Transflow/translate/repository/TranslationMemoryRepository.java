@@ -0,0 +1,23 @@
+package com.project.Transflow.translate.repository;
+
+import com.project.Transflow.translate.entity.TranslationMemory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TranslationMemoryRepository extends JpaRepository<TranslationMemory, Long> {
+    List<TranslationMemory> findByMemoryKeyIn(Collection<String> memoryKeys);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM TranslationMemory m WHERE m.createdAt < :cutoff")
+    int deleteByCreatedAtBefore(@Param("cutoff") LocalDateTime cutoff);
+}
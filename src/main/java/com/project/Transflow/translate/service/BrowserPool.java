@@ -0,0 +1,189 @@
+package com.project.Transflow.translate.service;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Playwright;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 크롤링용 Chromium 브라우저 풀
+ * 크롤러 워커 스레드마다 브라우저를 하나씩 띄워두고 요청마다 새 컨텍스트만 생성하여 콜드 스타트 비용을 제거
+ * Playwright 객체는 스레드 안전하지 않으므로 브라우저는 자신을 실행한 워커 스레드에서만 사용하고 닫음
+ * (다른 스레드가 닫는 것은 소유 스레드가 이미 종료된 경우뿐)
+ */
+@Slf4j
+@Component
+public class BrowserPool {
+
+    private final int maxPagesPerBrowser;
+
+    // 현재 실행 중인 브라우저 (모니터링 및 종료 시 정리용)
+    private final Set<PooledBrowser> liveBrowsers = ConcurrentHashMap.newKeySet();
+
+    // 메트릭
+    private final AtomicLong launchedCount = new AtomicLong();
+    private final AtomicLong recycledCount = new AtomicLong();
+    private final AtomicLong crashedCount = new AtomicLong();
+
+    public BrowserPool(@Value("${crawler.pool.max-pages-per-browser:50}") int maxPagesPerBrowser) {
+        this.maxPagesPerBrowser = Math.max(1, maxPagesPerBrowser);
+    }
+
+    /**
+     * 워커가 크롤링 직전에 호출
+     * 기존 브라우저가 정상이면 그대로 사용하고, 없거나 비정상이거나 재생성 주기가 되면 새로 실행
+     * 반드시 브라우저를 사용할 워커 스레드에서 호출해야 함
+     */
+    public PooledBrowser checkout(PooledBrowser current) {
+        if (current != null) {
+            if (!current.isHealthy()) {
+                log.warn("비정상 브라우저 폐기 (처리 페이지 수: {})", current.pagesServed);
+                crashedCount.incrementAndGet();
+                destroy(current);
+            } else if (current.pagesServed >= maxPagesPerBrowser) {
+                log.info("브라우저 재생성 - 최대 처리 페이지 수 도달 ({})", current.pagesServed);
+                recycledCount.incrementAndGet();
+                destroy(current);
+            } else {
+                return current;
+            }
+        }
+        return launch();
+    }
+
+    /**
+     * 워커가 크롤링을 마친 뒤 호출
+     */
+    public void checkin(PooledBrowser pooled) {
+        if (pooled != null) {
+            pooled.pagesServed++;
+        }
+    }
+
+    /**
+     * 브라우저 종료 (Playwright 드라이버 포함)
+     * 반드시 브라우저를 소유한 워커 스레드에서 호출해야 함
+     */
+    public void destroy(PooledBrowser pooled) {
+        close(pooled);
+    }
+
+    /**
+     * 소유 스레드가 이미 종료되어 닫히지 않고 남은 브라우저를 종료 (애플리케이션 종료 시 정리용)
+     * 아직 실행 중인 스레드가 소유한 브라우저는 그 스레드에서 사용 중일 수 있으므로 건드리지 않음
+     * @return 종료한 브라우저 수
+     */
+    public int destroyOrphaned() {
+        int destroyed = 0;
+        for (PooledBrowser pooled : liveBrowsers.toArray(new PooledBrowser[0])) {
+            if (!pooled.owner.isAlive() && close(pooled)) {
+                destroyed++;
+            }
+        }
+        return destroyed;
+    }
+
+    /**
+     * 아직 닫히지 않은 브라우저 수
+     */
+    public int getLiveBrowserCount() {
+        return liveBrowsers.size();
+    }
+
+    private boolean close(PooledBrowser pooled) {
+        if (pooled == null || !liveBrowsers.remove(pooled)) {
+            return false;
+        }
+        try {
+            pooled.browser.close();
+        } catch (Exception e) {
+            log.warn("브라우저 종료 실패: {}", e.getMessage());
+        }
+        try {
+            pooled.playwright.close();
+        } catch (Exception e) {
+            log.warn("Playwright 종료 실패: {}", e.getMessage());
+        }
+        return true;
+    }
+
+    /**
+     * 풀 상태 조회 (모니터링용)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("liveBrowsers", liveBrowsers.size());
+        stats.put("maxPagesPerBrowser", maxPagesPerBrowser);
+        stats.put("launchedCount", launchedCount.get());
+        stats.put("recycledCount", recycledCount.get());
+        stats.put("crashedCount", crashedCount.get());
+        return stats;
+    }
+
+    private PooledBrowser launch() {
+        Playwright playwright = null;
+        try {
+            playwright = Playwright.create();
+            Browser browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
+                    .setHeadless(true)
+                    .setTimeout(30000) // 브라우저 시작 타임아웃 30초
+                    .setArgs(Arrays.asList(
+                            "--disable-blink-features=AutomationControlled", // 자동화 감지 방지
+                            "--disable-dev-shm-usage",
+                            "--no-sandbox",
+                            "--disable-setuid-sandbox"
+                    )));
+            PooledBrowser pooled = new PooledBrowser(playwright, browser, Thread.currentThread());
+            liveBrowsers.add(pooled);
+            launchedCount.incrementAndGet();
+            log.info("브라우저 실행 완료 - {} (실행 중인 브라우저: {})", Thread.currentThread().getName(), liveBrowsers.size());
+            return pooled;
+        } catch (Exception e) {
+            if (playwright != null) {
+                try {
+                    playwright.close();
+                } catch (Exception ex) {
+                    log.debug("Playwright 종료 실패: {}", ex.getMessage());
+                }
+            }
+            throw new RuntimeException("브라우저 실행 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 풀에서 관리되는 브라우저 (실행한 워커 스레드 하나가 소유)
+     */
+    public static class PooledBrowser {
+        private final Playwright playwright;
+        private final Browser browser;
+        private final Thread owner;
+        private int pagesServed;
+
+        PooledBrowser(Playwright playwright, Browser browser, Thread owner) {
+            this.playwright = playwright;
+            this.browser = browser;
+            this.owner = owner;
+        }
+
+        public Browser getBrowser() {
+            return browser;
+        }
+
+        boolean isHealthy() {
+            try {
+                return browser.isConnected();
+            } catch (Exception e) {
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.project.Transflow.translate.service;
+
+import com.project.Transflow.translate.dto.CrawlProfile;
+import com.project.Transflow.translate.entity.CrawlCache;
+import com.project.Transflow.translate.repository.CrawlCacheRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 크롤링 결과 캐시
+ * 같은 URL을 다시 번역할 때 TTL 이내면 저장된 결과를 사용하고,
+ * TTL이 지났으면 ETag / Last-Modified로 원본 변경 여부를 확인하고, 외부 스타일시트도 다시 모아 CSS가 같으면 브라우저 크롤링을 생략
+ * 오래 재검증되지 않은 항목은 주기적으로 삭제 (purge-after-hours)
+ */
+@Slf4j
+@Service
+public class CrawlCacheService {
+
+    private static final String USER_AGENT = "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36";
+
+    private final CrawlerService crawlerService;
+    private final CrawlCacheRepository crawlCacheRepository;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Duration revalidateTimeout;
+    private final Duration purgeAfter;
+    private final HttpClient httpClient;
+
+    // 메트릭
+    private final AtomicLong freshHitCount = new AtomicLong();
+    private final AtomicLong revalidatedHitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong cssChangedCount = new AtomicLong();
+
+    public CrawlCacheService(
+            CrawlerService crawlerService,
+            CrawlCacheRepository crawlCacheRepository,
+            @Value("${crawler.cache.enabled:true}") boolean enabled,
+            @Value("${crawler.cache.ttl-seconds:600}") long ttlSeconds,
+            @Value("${crawler.cache.revalidate-timeout-ms:5000}") long revalidateTimeoutMs,
+            @Value("${crawler.cache.purge-after-hours:24}") long purgeAfterHours) {
+        this.crawlerService = crawlerService;
+        this.crawlCacheRepository = crawlCacheRepository;
+        this.enabled = enabled;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.revalidateTimeout = Duration.ofMillis(revalidateTimeoutMs);
+        this.purgeAfter = Duration.ofHours(purgeAfterHours);
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(revalidateTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    /**
+     * 캐시된 크롤링 결과를 반환하고, 없거나 원본이 변경되었으면 크롤링
+     * @return CrawlerService.crawlWebPageWithStyles와 동일한 형식의 결과
+     */
+    public Map<String, String> getOrCrawl(String url, CrawlProfile profile) {
+        CrawlProfile crawlProfile = profile != null ? profile : CrawlProfile.FULL;
+        if (!enabled) {
+            return crawlerService.crawlWebPageWithStyles(url, crawlProfile);
+        }
+
+        String cacheKey = cacheKey(url, crawlProfile);
+        Optional<CrawlCache> cached = findCached(cacheKey);
+        if (cached.isPresent()) {
+            CrawlCache entry = cached.get();
+            if (entry.getValidatedAt().plus(ttl).isAfter(LocalDateTime.now())) {
+                freshHitCount.incrementAndGet();
+                log.info("크롤링 캐시 사용 (TTL 이내): {}", url);
+                return toResult(entry);
+            }
+            if (isNotModified(entry) && isCssUnchanged(entry, crawlProfile)) {
+                revalidatedHitCount.incrementAndGet();
+                entry.setValidatedAt(LocalDateTime.now());
+                saveQuietly(entry);
+                log.info("크롤링 캐시 사용 (원본 변경 없음): {}", url);
+                return toResult(entry);
+            }
+        }
+
+        missCount.incrementAndGet();
+        Map<String, String> result = crawlerService.crawlWebPageWithStyles(url, crawlProfile);
+        store(cacheKey, url, crawlProfile, result, cached.orElse(null));
+        return result;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("ttlSeconds", ttl.getSeconds());
+        stats.put("freshHitCount", freshHitCount.get());
+        stats.put("revalidatedHitCount", revalidatedHitCount.get());
+        stats.put("missCount", missCount.get());
+        stats.put("cssChangedCount", cssChangedCount.get());
+        return stats;
+    }
+
+    /**
+     * 마지막 재검증 후 purge-after-hours가 지난 캐시 삭제 (0 이하이면 삭제하지 않음)
+     */
+    @Scheduled(cron = "${crawler.cache.purge-cron:0 0 * * * *}")
+    public void purgeExpired() {
+        if (!enabled || purgeAfter.isZero() || purgeAfter.isNegative()) {
+            return;
+        }
+        try {
+            int deleted = crawlCacheRepository.deleteByValidatedAtBefore(LocalDateTime.now().minus(purgeAfter));
+            if (deleted > 0) {
+                log.info("오래된 크롤링 캐시 {}개 삭제", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("크롤링 캐시 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 조건부 요청으로 원본 변경 여부 확인 (304면 변경 없음)
+     */
+    private boolean isNotModified(CrawlCache entry) {
+        if (entry.getEtag() == null && entry.getLastModified() == null) {
+            return false;
+        }
+        try {
+            // 재검증 헤더는 리다이렉트 후 최종 응답에서 받은 값이므로 최종 URL로 확인
+            String targetUrl = entry.getFinalUrl() != null ? entry.getFinalUrl() : entry.getUrl();
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(targetUrl))
+                    .timeout(revalidateTimeout)
+                    .header("User-Agent", USER_AGENT)
+                    .GET();
+            if (entry.getEtag() != null) {
+                request.header("If-None-Match", entry.getEtag());
+            }
+            if (entry.getLastModified() != null) {
+                request.header("If-Modified-Since", entry.getLastModified());
+            }
+            HttpResponse<Void> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() == 304;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.debug("크롤링 캐시 재검증 실패: {} - {}", entry.getUrl(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * HTML이 그대로여도 외부 스타일시트만 바뀌었을 수 있으므로 CSS를 다시 구성하여 비교
+     * (스타일시트는 공유 캐시와 조건부 요청으로 확인하므로 대부분 다운로드 없이 끝남)
+     */
+    private boolean isCssUnchanged(CrawlCache entry, CrawlProfile profile) {
+        if (!profile.isExtractCss()) {
+            return true;
+        }
+        try {
+            String baseUrl = entry.getFinalUrl() != null ? entry.getFinalUrl() : entry.getUrl();
+            String css = crawlerService.rebuildCss(entry.getHtml(), baseUrl);
+            if (css.equals(entry.getCss() != null ? entry.getCss() : "")) {
+                return true;
+            }
+            cssChangedCount.incrementAndGet();
+            log.info("스타일시트 변경 감지 - 다시 크롤링: {}", entry.getUrl());
+            return false;
+        } catch (Exception e) {
+            log.debug("스타일시트 재검증 실패: {} - {}", entry.getUrl(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void store(String cacheKey, String url, CrawlProfile profile, Map<String, String> result, CrawlCache existing) {
+        // 타임아웃으로 일부만 로드된 페이지나 검증 페이지는 캐시하지 않음
+        if ("true".equals(result.get("partial")) || "true".equals(result.get("cloudflare"))) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        CrawlCache entry = existing != null ? existing : CrawlCache.builder()
+                .cacheKey(cacheKey)
+                .url(url)
+                .crawlProfile(profile.name())
+                .build();
+        entry.setFinalUrl(result.get("finalUrl"));
+        entry.setHtml(result.get("html"));
+        entry.setCss(result.get("css"));
+        entry.setEtag(result.get("etag"));
+        entry.setLastModified(result.get("lastModified"));
+        entry.setFetchedAt(now);
+        entry.setValidatedAt(now);
+        saveQuietly(entry);
+    }
+
+    private Optional<CrawlCache> findCached(String cacheKey) {
+        try {
+            return crawlCacheRepository.findByCacheKey(cacheKey);
+        } catch (Exception e) {
+            log.warn("크롤링 캐시 조회 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void saveQuietly(CrawlCache entry) {
+        try {
+            crawlCacheRepository.save(entry);
+        } catch (Exception e) {
+            // 동시에 같은 URL을 저장하는 경우 등 - 캐시 저장 실패는 번역에 영향 없음
+            log.warn("크롤링 캐시 저장 실패: {} - {}", entry.getUrl(), e.getMessage());
+        }
+    }
+
+    private Map<String, String> toResult(CrawlCache entry) {
+        Map<String, String> result = new HashMap<>();
+        result.put("html", entry.getHtml());
+        result.put("css", entry.getCss() != null ? entry.getCss() : "");
+        result.put("finalUrl", entry.getFinalUrl());
+        result.put("cloudflare", "false");
+        if (entry.getEtag() != null) {
+            result.put("etag", entry.getEtag());
+        }
+        if (entry.getLastModified() != null) {
+            result.put("lastModified", entry.getLastModified());
+        }
+        return result;
+    }
+
+    private String cacheKey(String url, CrawlProfile profile) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((profile.name() + "|" + CrawlerService.normalizeUrl(url)).getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.project.Transflow.translate.service;
+
+import com.project.Transflow.translate.dto.CrawlProfile;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 크롤링 트래픽 메트릭
+ * 차단된 요청은 실제 크기를 알 수 없으므로, 차단하지 않은 크롤링에서 관측한
+ * 리소스 타입별 평균 크기(관측 전에는 기본값)로 절약된 바이트를 추정
+ */
+@Component
+public class CrawlMetrics {
+
+    // 관측값이 없을 때 사용하는 리소스 타입별 평균 크기 (바이트)
+    private static final Map<String, Long> DEFAULT_RESOURCE_SIZES = Map.of(
+            "image", 60_000L,
+            "media", 500_000L,
+            "font", 40_000L,
+            "stylesheet", 30_000L,
+            "script", 50_000L
+    );
+    private static final long DEFAULT_OTHER_SIZE = 10_000L;
+
+    // 리소스 타입별 관측된 [총 바이트, 건수]
+    private final Map<String, AtomicLong[]> observedSizes = new ConcurrentHashMap<>();
+
+    private final Map<CrawlProfile, ProfileCounters> countersByProfile = new EnumMap<>(CrawlProfile.class);
+
+    public CrawlMetrics() {
+        for (CrawlProfile profile : CrawlProfile.values()) {
+            countersByProfile.put(profile, new ProfileCounters());
+        }
+    }
+
+    /**
+     * 크롤링 한 번의 트래픽 기록
+     * @return 이번 크롤링에서 절약된 것으로 추정되는 바이트
+     */
+    public long recordCrawl(CrawlTrafficFilter filter) {
+        // 관측 크기 갱신 (차단 없이 받은 리소스만 평균에 반영)
+        filter.getReceivedBytesByType().forEach((type, bytes) -> {
+            AtomicLong[] observed = observedSizes.computeIfAbsent(type, t -> new AtomicLong[]{new AtomicLong(), new AtomicLong()});
+            observed[0].addAndGet(bytes);
+            observed[1].addAndGet(filter.getReceivedCountByType().getOrDefault(type, 0));
+        });
+
+        long bytesSaved = 0;
+        for (Map.Entry<String, Integer> entry : filter.getBlockedByType().entrySet()) {
+            bytesSaved += entry.getValue() * averageSize(entry.getKey());
+        }
+
+        ProfileCounters counters = countersByProfile.get(filter.getProfile());
+        counters.crawls.incrementAndGet();
+        counters.blockedRequests.addAndGet(filter.getBlockedCount());
+        counters.receivedBytes.addAndGet(filter.getReceivedBytes());
+        counters.estimatedBytesSaved.addAndGet(bytesSaved);
+        return bytesSaved;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        countersByProfile.forEach((profile, counters) -> {
+            Map<String, Object> profileStats = new LinkedHashMap<>();
+            profileStats.put("crawls", counters.crawls.get());
+            profileStats.put("blockedRequests", counters.blockedRequests.get());
+            profileStats.put("receivedBytes", counters.receivedBytes.get());
+            profileStats.put("estimatedBytesSaved", counters.estimatedBytesSaved.get());
+            stats.put(profile.name(), profileStats);
+        });
+        return stats;
+    }
+
+    private long averageSize(String resourceType) {
+        AtomicLong[] observed = observedSizes.get(resourceType);
+        if (observed != null && observed[1].get() > 0) {
+            return observed[0].get() / observed[1].get();
+        }
+        return DEFAULT_RESOURCE_SIZES.getOrDefault(resourceType, DEFAULT_OTHER_SIZE);
+    }
+
+    private static class ProfileCounters {
+        final AtomicLong crawls = new AtomicLong();
+        final AtomicLong blockedRequests = new AtomicLong();
+        final AtomicLong receivedBytes = new AtomicLong();
+        final AtomicLong estimatedBytesSaved = new AtomicLong();
+    }
+}
@@ -0,0 +1,113 @@
+package com.project.Transflow.translate.service;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Response;
+import com.microsoft.playwright.Route;
+import com.project.Transflow.translate.dto.CrawlProfile;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 크롤링 한 번의 네트워크 트래픽 필터
+ * 프로필에 따라 리소스 타입/도메인 기준으로 요청을 차단하고, 차단 수와 실제 전송량을 기록
+ * 해당 페이지를 소유한 워커 스레드에서만 사용
+ */
+@Slf4j
+class CrawlTrafficFilter {
+
+    private final CrawlProfile profile;
+    private final List<String> blockedDomains;
+
+    // 리소스 타입별 차단된 요청 수
+    private final Map<String, Integer> blockedByType = new HashMap<>();
+    // 리소스 타입별 실제 수신 바이트 (Content-Length 기준)
+    private final Map<String, Long> receivedBytesByType = new HashMap<>();
+    private final Map<String, Integer> receivedCountByType = new HashMap<>();
+
+    CrawlTrafficFilter(CrawlProfile profile, List<String> blockedDomains) {
+        this.profile = profile;
+        this.blockedDomains = blockedDomains;
+    }
+
+    void install(BrowserContext context, Page page) {
+        if (profile.blocksAnything()) {
+            context.route("**/*", this::handleRoute);
+        }
+        page.onResponse(this::recordResponse);
+    }
+
+    private void handleRoute(Route route) {
+        Request request = route.request();
+        String resourceType = request.resourceType();
+        if (profile.getBlockedResourceTypes().contains(resourceType)
+                || (profile.isBlockTrackers() && isBlockedDomain(request.url()))) {
+            blockedByType.merge(resourceType, 1, Integer::sum);
+            route.abort();
+            return;
+        }
+        route.resume();
+    }
+
+    private void recordResponse(Response response) {
+        try {
+            String contentLength = response.headers().get("content-length");
+            if (contentLength == null) {
+                return;
+            }
+            String resourceType = response.request().resourceType();
+            receivedBytesByType.merge(resourceType, Long.parseLong(contentLength.trim()), Long::sum);
+            receivedCountByType.merge(resourceType, 1, Integer::sum);
+        } catch (Exception e) {
+            log.trace("응답 크기 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    private boolean isBlockedDomain(String url) {
+        String host;
+        try {
+            host = URI.create(url).getHost();
+        } catch (Exception e) {
+            return false;
+        }
+        if (host == null) {
+            return false;
+        }
+        host = host.toLowerCase();
+        for (String domain : blockedDomains) {
+            if (host.equals(domain) || host.endsWith("." + domain)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    CrawlProfile getProfile() {
+        return profile;
+    }
+
+    Map<String, Integer> getBlockedByType() {
+        return blockedByType;
+    }
+
+    Map<String, Long> getReceivedBytesByType() {
+        return receivedBytesByType;
+    }
+
+    Map<String, Integer> getReceivedCountByType() {
+        return receivedCountByType;
+    }
+
+    int getBlockedCount() {
+        return blockedByType.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    long getReceivedBytes() {
+        return receivedBytesByType.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
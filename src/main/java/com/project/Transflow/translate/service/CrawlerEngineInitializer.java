@@ -0,0 +1,213 @@
+package com.project.Transflow.translate.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 크롤러 엔진 백그라운드 초기화
+ * 애플리케이션 시작이 끝난 뒤 별도 스레드에서 Chromium 설치를 확인하고(Playwright CLI는 현재 버전의 브라우저가 있으면 설치를 생략),
+ * 워커 브라우저를 미리 띄워둠. 초기화가 끝나기 전의 크롤링 요청은 준비될 때까지 대기
+ * - 일시적인 다운로드/네트워크 오류에 대비해 정해진 횟수까지 간격을 늘려가며 다시 시도
+ * - 모두 실패해도 일정 시간이 지난 뒤 들어온 크롤링 요청이 초기화를 다시 시작
+ */
+@Slf4j
+@Component
+public class CrawlerEngineInitializer {
+
+    public enum Status { INITIALIZING, READY, FAILED }
+
+    private final CrawlerExecutor crawlerExecutor;
+    private final long awaitTimeoutMs;
+    private final int warmUpBrowsers;
+    private final int maxAttempts;
+    private final long retryDelayMs;
+    private final long reinitIntervalMs;
+
+    private volatile CountDownLatch initialized = new CountDownLatch(1);
+    private volatile Status status = Status.INITIALIZING;
+    private volatile String message = "크롤러 초기화 대기 중";
+    private volatile long initMillis = -1;
+    private volatile long failedAt;
+
+    public CrawlerEngineInitializer(
+            CrawlerExecutor crawlerExecutor,
+            @Value("${crawler.init.await-timeout-ms:120000}") long awaitTimeoutMs,
+            @Value("${crawler.executor.workers:2}") int warmUpBrowsers,
+            @Value("${crawler.init.max-attempts:3}") int maxAttempts,
+            @Value("${crawler.init.retry-delay-ms:5000}") long retryDelayMs,
+            @Value("${crawler.init.reinit-interval-ms:60000}") long reinitIntervalMs) {
+        this.crawlerExecutor = crawlerExecutor;
+        this.awaitTimeoutMs = awaitTimeoutMs;
+        this.warmUpBrowsers = Math.max(1, warmUpBrowsers);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryDelayMs = retryDelayMs;
+        this.reinitIntervalMs = reinitIntervalMs;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeInBackground() {
+        startInitThread(initialized);
+    }
+
+    /**
+     * 크롤러가 준비될 때까지 대기
+     * 초기화가 실패한 상태이고 마지막 실패 후 일정 시간이 지났으면 초기화를 다시 시작한 뒤 대기
+     * @throws RuntimeException 초기화 실패 또는 대기 시간 초과
+     */
+    public void awaitReady() {
+        if (status == Status.READY) {
+            return;
+        }
+        if (status == Status.FAILED) {
+            reinitializeIfDue();
+        }
+        try {
+            if (!initialized.await(awaitTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new RuntimeException("크롤러 초기화 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("크롤러 초기화 대기 중 인터럽트 발생", e);
+        }
+        if (status != Status.READY) {
+            log.error("Playwright가 초기화되지 않았습니다. Playwright 설치가 필요합니다.");
+            throw new RuntimeException("Playwright가 설치되지 않았습니다. 백엔드 설정을 확인해주세요. (" + message + ")");
+        }
+    }
+
+    public boolean isReady() {
+        return status == Status.READY;
+    }
+
+    public Map<String, Object> getHealth() {
+        Map<String, Object> health = new LinkedHashMap<>();
+        health.put("status", status.name());
+        health.put("ready", isReady());
+        health.put("message", message);
+        health.put("initMillis", initMillis);
+        return health;
+    }
+
+    /**
+     * 실패 상태에서 재초기화 간격이 지났으면 초기화를 다시 시작 (동시에 하나만)
+     */
+    private synchronized void reinitializeIfDue() {
+        if (status != Status.FAILED || System.currentTimeMillis() - failedAt < reinitIntervalMs) {
+            return;
+        }
+        log.info("크롤러 초기화를 다시 시도합니다.");
+        status = Status.INITIALIZING;
+        initialized = new CountDownLatch(1);
+        startInitThread(initialized);
+    }
+
+    private void startInitThread(CountDownLatch latch) {
+        Thread initThread = new Thread(() -> initialize(latch), "crawler-init");
+        initThread.setDaemon(true);
+        initThread.start();
+    }
+
+    private void initialize(CountDownLatch latch) {
+        long start = System.currentTimeMillis();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    String version = initializeOnce();
+                    initMillis = System.currentTimeMillis() - start;
+                    message = "Chromium " + version;
+                    status = Status.READY;
+                    log.info("크롤러 초기화 완료 ({}ms, Chromium {})", initMillis, version);
+                    return;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    fail(start, "크롤러 초기화 중 인터럽트 발생");
+                    return;
+                } catch (Exception e) {
+                    if (attempt >= maxAttempts) {
+                        fail(start, e.getMessage());
+                        return;
+                    }
+                    long delay = retryDelayMs * (1L << (attempt - 1));
+                    log.warn("크롤러 초기화 실패 ({}/{}), {}ms 후 재시도: {}", attempt, maxAttempts, delay, e.getMessage());
+                    message = "초기화 재시도 대기 중 (" + attempt + "/" + maxAttempts + "): " + e.getMessage();
+                    try {
+                        Thread.sleep(delay);
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        fail(start, "크롤러 초기화 중 인터럽트 발생");
+                        return;
+                    }
+                }
+            }
+        } finally {
+            latch.countDown();
+        }
+    }
+
+    /**
+     * Chromium 설치 확인 후 워커 브라우저 미리 실행
+     * @return Chromium 버전
+     */
+    private String initializeOnce() throws Exception {
+        message = "Chromium 설치 확인 중";
+        installChromium();
+
+        // 워커 브라우저 미리 실행 (첫 요청에서 브라우저 시작 시간을 기다리지 않도록)
+        message = "브라우저 준비 중";
+        List<CompletableFuture<String>> warmUps = new ArrayList<>();
+        for (int i = 0; i < warmUpBrowsers; i++) {
+            warmUps.add(crawlerExecutor.submit(browser -> browser.version()));
+        }
+        String version = null;
+        for (CompletableFuture<String> warmUp : warmUps) {
+            version = warmUp.get(awaitTimeoutMs, TimeUnit.MILLISECONDS);
+        }
+        return version;
+    }
+
+    private void fail(long start, String reason) {
+        initMillis = System.currentTimeMillis() - start;
+        message = reason;
+        failedAt = System.currentTimeMillis();
+        status = Status.FAILED;
+        log.warn("크롤러 초기화 실패: {}", reason);
+    }
+
+    /**
+     * Playwright CLI로 Chromium 설치 (별도 JVM 프로세스)
+     * 현재 Playwright 버전이 요구하는 리비전이 이미 있으면 CLI가 다운로드 없이 바로 종료
+     */
+    private void installChromium() throws Exception {
+        String javaBin = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        ProcessBuilder pb = new ProcessBuilder(
+                javaBin,
+                "-cp",
+                System.getProperty("java.class.path"),
+                "com.microsoft.playwright.CLI",
+                "install",
+                "chromium"
+        );
+        pb.inheritIO();
+
+        Process process = pb.start();
+        int exitCode = process.waitFor();
+
+        if (exitCode == 0) {
+            log.info("Playwright Chromium 설치 완료 또는 이미 설치됨");
+        } else {
+            log.warn("Playwright 브라우저 설치 실패 (exit code: {}). 수동 설치가 필요할 수 있습니다.", exitCode);
+        }
+    }
+}
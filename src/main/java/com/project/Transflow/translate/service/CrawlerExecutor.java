@@ -0,0 +1,278 @@
+package com.project.Transflow.translate.service;
+
+import com.microsoft.playwright.Browser;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 크롤링 전용 실행기
+ * 워커 스레드마다 Playwright 드라이버와 브라우저를 하나씩 소유하고, 크롤링 작업은 큐를 통해 워커에 전달
+ * Playwright 객체를 여러 요청 스레드가 공유하지 않으므로 동시 크롤링이 안전하게 병렬 실행됨
+ * 큐가 가득 차면 즉시 거절하여 요청이 무한정 쌓이지 않도록 함
+ *
+ * 애플리케이션 종료 시 새 작업을 거절하고 진행 중인 크롤링이 끝날 때까지 기다린 뒤
+ * 각 워커가 자기 브라우저를 닫도록 종료시키고, 그래도 남은 브라우저 프로세스가 있으면 보고 후 강제 종료
+ * (제시간에 끝나지 않은 워커의 브라우저는 그 워커가 사용 중일 수 있으므로 다른 스레드에서 Playwright 객체를 닫지 않음)
+ */
+@Slf4j
+@Component
+public class CrawlerExecutor implements SmartLifecycle {
+
+    // 웹 서버(graceful shutdown 포함)가 먼저 멈춘 뒤에 종료되도록 더 낮은 phase 사용
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+    private static final long WORKER_JOIN_TIMEOUT_MS = 5000;
+
+    private final BrowserPool browserPool;
+    private final int workerCount;
+    private final long drainTimeoutMs;
+    private final BlockingQueue<CrawlJob<?>> queue;
+    private final List<Thread> workers = new ArrayList<>();
+
+    private volatile boolean running = false;
+    private volatile boolean accepting = false;
+
+    // 메트릭
+    private final AtomicInteger activeJobs = new AtomicInteger();
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong totalWaitMillis = new AtomicLong();
+    private final AtomicLong maxWaitMillis = new AtomicLong();
+
+    public CrawlerExecutor(
+            BrowserPool browserPool,
+            @Value("${crawler.executor.workers:2}") int workerCount,
+            @Value("${crawler.executor.queue-capacity:20}") int queueCapacity,
+            @Value("${crawler.shutdown.drain-timeout-ms:30000}") long drainTimeoutMs) {
+        this.browserPool = browserPool;
+        this.workerCount = Math.max(1, workerCount);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.drainTimeoutMs = Math.max(0, drainTimeoutMs);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        workers.clear();
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::runWorker, "crawler-worker-" + (i + 1));
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+        accepting = true;
+        running = true;
+        log.info("크롤러 워커 {}개 시작 (큐 용량: {})", workerCount, queue.remainingCapacity());
+    }
+
+    /**
+     * 크롤링 작업을 큐에 넣고 결과 Future 반환
+     * @param task 워커 스레드에서 해당 워커의 브라우저로 실행할 작업
+     * @throws RuntimeException 큐가 가득 찼거나 크롤러가 종료 중인 경우
+     */
+    public <T> CompletableFuture<T> submit(Function<Browser, T> task) {
+        if (!accepting) {
+            rejectedCount.incrementAndGet();
+            throw new RuntimeException("크롤러가 종료 중이거나 시작되지 않았습니다. 잠시 후 다시 시도해주세요.");
+        }
+        CrawlJob<T> job = new CrawlJob<>(task);
+        if (!queue.offer(job)) {
+            rejectedCount.incrementAndGet();
+            throw new RuntimeException("크롤링 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return job.future;
+    }
+
+    @Override
+    public void stop() {
+        shutdownGracefully();
+    }
+
+    @Override
+    public void stop(Runnable callback) {
+        try {
+            shutdownGracefully();
+        } finally {
+            callback.run();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * 실행기 상태 조회 (모니터링용)
+     */
+    public Map<String, Object> getStats() {
+        long completed = completedCount.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("running", running);
+        stats.put("accepting", accepting);
+        stats.put("workers", workerCount);
+        stats.put("activeJobs", activeJobs.get());
+        stats.put("queuedJobs", queue.size());
+        stats.put("queueRemainingCapacity", queue.remainingCapacity());
+        stats.put("completedCount", completed);
+        stats.put("rejectedCount", rejectedCount.get());
+        stats.put("avgWaitMillis", completed == 0 ? 0 : totalWaitMillis.get() / completed);
+        stats.put("maxWaitMillis", maxWaitMillis.get());
+        stats.putAll(browserPool.getStats());
+        return stats;
+    }
+
+    /**
+     * 새 작업 거절 -> 대기/진행 중 작업 완료 대기 -> 남은 작업 취소 -> 워커 종료 -> 남은 브라우저/프로세스 정리
+     */
+    private synchronized void shutdownGracefully() {
+        if (!running) {
+            return;
+        }
+        accepting = false;
+        log.info("크롤러 종료 시작 - 진행 중 {}개, 대기 중 {}개 (최대 {}ms 대기)",
+                activeJobs.get(), queue.size(), drainTimeoutMs);
+
+        long deadline = System.currentTimeMillis() + drainTimeoutMs;
+        while ((!queue.isEmpty() || activeJobs.get() > 0) && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        // 대기 시간 안에 시작하지 못한 작업은 호출자가 무한정 기다리지 않도록 실패 처리
+        List<CrawlJob<?>> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        abandoned.forEach(job -> job.future.completeExceptionally(
+                new RuntimeException("크롤러가 종료되어 크롤링이 취소되었습니다.")));
+        if (!abandoned.isEmpty() || activeJobs.get() > 0) {
+            log.warn("종료 대기 시간 초과 - 취소된 작업 {}개, 중단되는 작업 {}개", abandoned.size(), activeJobs.get());
+        }
+
+        // 각 워커는 종료 시 자신이 소유한 브라우저와 Playwright 드라이버를 자기 스레드에서 닫음
+        workers.forEach(Thread::interrupt);
+        for (Thread worker : workers) {
+            try {
+                worker.join(WORKER_JOIN_TIMEOUT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (worker.isAlive()) {
+                log.warn("크롤러 워커가 제시간에 종료되지 않았습니다: {}", worker.getName());
+            }
+        }
+
+        // 종료된 워커가 남긴 브라우저만 닫음 (실행 중인 워커의 브라우저는 소유 스레드에서만 닫을 수 있음)
+        int orphaned = browserPool.destroyOrphaned();
+        if (orphaned > 0) {
+            log.warn("종료된 워커가 닫지 못한 브라우저 {}개를 닫았습니다.", orphaned);
+        }
+        int stillOwned = browserPool.getLiveBrowserCount();
+        if (stillOwned > 0) {
+            log.warn("아직 종료되지 않은 워커의 브라우저 {}개는 닫지 않고 프로세스만 정리합니다.", stillOwned);
+        }
+        reportLeakedProcesses();
+
+        running = false;
+        log.info("크롤러 종료 완료 (처리한 작업: {}개)", completedCount.get());
+    }
+
+    /**
+     * 브라우저를 닫은 뒤에도 남아 있는 Chromium / Playwright 드라이버 프로세스를 보고하고 강제 종료
+     * OS 프로세스만 종료하고 Playwright 객체는 호출하지 않으므로 워커 스레드와 무관하게 실행 가능
+     */
+    private void reportLeakedProcesses() {
+        try {
+            List<ProcessHandle> leaked = ProcessHandle.current().descendants()
+                    .filter(ProcessHandle::isAlive)
+                    .filter(process -> process.info().command()
+                            .map(command -> {
+                                String lower = command.toLowerCase();
+                                return lower.contains("chrom") || lower.contains("playwright");
+                            })
+                            .orElse(false))
+                    .collect(Collectors.toList());
+            if (leaked.isEmpty()) {
+                return;
+            }
+            log.warn("종료되지 않은 브라우저 프로세스 {}개 발견: {}", leaked.size(), leaked.stream()
+                    .map(process -> process.pid() + "(" + process.info().command().orElse("?") + ")")
+                    .collect(Collectors.joining(", ")));
+            leaked.forEach(ProcessHandle::destroyForcibly);
+        } catch (Exception e) {
+            log.debug("브라우저 프로세스 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    private void runWorker() {
+        // 이 스레드가 소유하는 브라우저 (다른 스레드와 공유하지 않음)
+        BrowserPool.PooledBrowser browser = null;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                CrawlJob<?> job = queue.take();
+                recordWait(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - job.enqueuedAt));
+                activeJobs.incrementAndGet();
+                try {
+                    BrowserPool.PooledBrowser previous = browser;
+                    browser = null;
+                    browser = browserPool.checkout(previous);
+                    job.run(browser.getBrowser());
+                } catch (Throwable t) {
+                    job.future.completeExceptionally(t);
+                } finally {
+                    browserPool.checkin(browser);
+                    activeJobs.decrementAndGet();
+                    completedCount.incrementAndGet();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            browserPool.destroy(browser);
+        }
+    }
+
+    private void recordWait(long waitMillis) {
+        totalWaitMillis.addAndGet(waitMillis);
+        maxWaitMillis.accumulateAndGet(waitMillis, Math::max);
+    }
+
+    private static class CrawlJob<T> {
+        final Function<Browser, T> task;
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final long enqueuedAt = System.nanoTime();
+
+        CrawlJob(Function<Browser, T> task) {
+            this.task = task;
+        }
+
+        void run(Browser browser) {
+            future.complete(task.apply(browser));
+        }
+    }
+}
@@ -1,104 +1,187 @@
 package com.project.Transflow.translate.service;
 
 import com.microsoft.playwright.Browser;
-import com.microsoft.playwright.BrowserType;
 import com.microsoft.playwright.Page;
-import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.options.WaitUntilState;
+import com.project.Transflow.translate.dto.CrawlProfile;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 public class CrawlerService {
 
     private static final int TIMEOUT = 30000; // 30 seconds (Playwright는 더 오래 걸릴 수 있음)
-    
-    // Playwright 인스턴스를 재사용하기 위한 필드 (스레드 안전하게 관리 필요)
-    private Playwright playwright;
 
-    public CrawlerService() {
+    // 크롤링은 전용 워커 스레드에서 실행 (워커마다 브라우저를 소유하고 요청마다 새 컨텍스트만 생성)
+    private final CrawlerExecutor crawlerExecutor;
+    private final PageReadinessWaiter pageReadinessWaiter;
+    private final StylesheetFetcher stylesheetFetcher;
+    private final CrawlMetrics crawlMetrics;
+    // 브라우저 설치 확인 및 워밍업은 애플리케이션 시작 후 백그라운드에서 진행
+    private final CrawlerEngineInitializer crawlerEngineInitializer;
+    // 진행 중인 크롤링 (같은 URL 동시 요청 병합용)
+    private final Map<String, CompletableFuture<Map<String, String>>> inFlightCrawls = new ConcurrentHashMap<>();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    // 광고/분석 등 크롤링에 불필요한 도메인 (STYLES_ONLY, TEXT_ONLY 프로필에서 차단)
+    private final List<String> blockedDomains;
+
+    public CrawlerService(CrawlerExecutor crawlerExecutor,
+                          PageReadinessWaiter pageReadinessWaiter,
+                          StylesheetFetcher stylesheetFetcher,
+                          CrawlMetrics crawlMetrics,
+                          CrawlerEngineInitializer crawlerEngineInitializer,
+                          @Value("${crawler.block.domains:}") String[] blockedDomains) {
+        this.crawlerExecutor = crawlerExecutor;
+        this.pageReadinessWaiter = pageReadinessWaiter;
+        this.stylesheetFetcher = stylesheetFetcher;
+        this.crawlMetrics = crawlMetrics;
+        this.crawlerEngineInitializer = crawlerEngineInitializer;
+        this.blockedDomains = Arrays.stream(blockedDomains)
+                .map(domain -> domain.trim().toLowerCase())
+                .filter(domain -> !domain.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 웹페이지의 HTML과 CSS를 함께 가져오는 메서드 (Playwright 사용)
+     * @param url 크롤링할 URL
+     * @return Map containing "html" and "css" keys
+     *         (+ "finalUrl", "cloudflare", 있으면 "etag", "lastModified", 타임아웃 시 "partial")
+     */
+    public Map<String, String> crawlWebPageWithStyles(String url) {
+        return crawlWebPageWithStyles(url, CrawlProfile.FULL);
+    }
+
+    /**
+     * 크롤링 프로필을 지정하여 HTML과 CSS를 가져오는 메서드
+     * @param profile 리소스 차단 프로필 (TEXT_ONLY이면 CSS는 빈 문자열)
+     */
+    public Map<String, String> crawlWebPageWithStyles(String url, CrawlProfile profile) {
         try {
-            // Playwright 브라우저 자동 설치 (첫 실행 시)
-            installPlaywrightBrowsersIfNeeded();
-            
-            // Playwright 인스턴스 생성 및 브라우저 설치 확인
-            this.playwright = Playwright.create();
-            log.info("Playwright 초기화 완료");
-        } catch (Exception e) {
-            log.warn("Playwright 초기화 실패. Jsoup으로 대체됩니다: {}", e.getMessage());
-            this.playwright = null;
+            return crawlWebPageWithStylesAsync(url, profile).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException("크롤링 실패: " + (cause != null ? cause.getMessage() : e.getMessage()), cause);
         }
     }
-    
+
     /**
-     * Playwright 브라우저 자동 설치
+     * 크롤링 작업을 워커 큐에 넣고 결과 Future 반환
+     * 큐가 가득 차 있으면 즉시 RuntimeException 발생
      */
-    private void installPlaywrightBrowsersIfNeeded() {
+    public CompletableFuture<Map<String, String>> crawlWebPageWithStylesAsync(String url, CrawlProfile profile) {
+        CrawlProfile crawlProfile = profile != null ? profile : CrawlProfile.FULL;
+        // 백그라운드 초기화가 끝나지 않았으면 준비될 때까지 대기
+        crawlerEngineInitializer.awaitReady();
+
+        // 같은 URL(정규화 기준)과 프로필로 진행 중인 크롤링이 있으면 그 결과를 함께 사용
+        String key = crawlProfile.name() + "|" + normalizeUrl(url);
+        CompletableFuture<Map<String, String>> created = new CompletableFuture<>();
+        CompletableFuture<Map<String, String>> existing = inFlightCrawls.putIfAbsent(key, created);
+        if (existing != null) {
+            coalescedCount.incrementAndGet();
+            log.info("진행 중인 크롤링 결과를 공유합니다: {}", url);
+            return existing.thenApply(HashMap::new);
+        }
+
         try {
-            // 브라우저가 설치되어 있는지 확인하고, 없으면 설치
-            log.info("Playwright 브라우저 설치 확인 중...");
-            
-            // CLI를 통한 브라우저 설치
-            // 이미 설치되어 있으면 스킵됨
-            ProcessBuilder pb = new ProcessBuilder(
-                "java",
-                "-cp",
-                System.getProperty("java.class.path"),
-                "com.microsoft.playwright.CLI",
-                "install",
-                "chromium"
-            );
-            
-            Process process = pb.start();
-            int exitCode = process.waitFor();
-            
-            if (exitCode == 0) {
-                log.info("Playwright 브라우저 설치 완료 또는 이미 설치됨");
-            } else {
-                log.warn("Playwright 브라우저 설치 실패. 수동 설치가 필요할 수 있습니다.");
-            }
-        } catch (Exception e) {
-            log.warn("Playwright 브라우저 자동 설치 실패: {}. 수동 설치를 시도하세요.", e.getMessage());
+            crawlerExecutor.submit(browser -> crawlWithBrowser(browser, url, crawlProfile))
+                    .whenComplete((result, error) -> {
+                        inFlightCrawls.remove(key, created);
+                        if (error != null) {
+                            created.completeExceptionally(error);
+                        } else {
+                            created.complete(result);
+                        }
+                    });
+        } catch (RuntimeException e) {
+            // 큐가 가득 차서 거절된 경우 - 대기 중이던 요청에도 같은 오류 전달
+            inFlightCrawls.remove(key, created);
+            created.completeExceptionally(e);
+            throw e;
         }
+        // 호출자마다 결과 맵을 따로 수정할 수 있도록 복사본 반환
+        return created.thenApply(HashMap::new);
     }
 
     /**
-     * 웹페이지의 HTML과 CSS를 함께 가져오는 메서드 (Playwright 사용)
-     * @param url 크롤링할 URL
-     * @return Map containing "html" and "css" keys
+     * 크롤링 요청 병합 상태 조회 (모니터링용)
      */
-    public Map<String, String> crawlWebPageWithStyles(String url) {
-        if (playwright == null) {
-            log.error("Playwright가 초기화되지 않았습니다. Playwright 설치가 필요합니다.");
-            throw new RuntimeException("Playwright가 설치되지 않았습니다. 백엔드 설정을 확인해주세요.");
+    public Map<String, Object> getCoalescingStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("inFlightCrawls", inFlightCrawls.size());
+        stats.put("coalescedCount", coalescedCount.get());
+        return stats;
+    }
+
+    /**
+     * 같은 페이지를 가리키는 URL을 하나의 키로 정규화
+     * (스킴/호스트 소문자, 기본 포트 제거, 빈 경로는 "/", 프래그먼트 제거)
+     */
+    static String normalizeUrl(String url) {
+        if (url == null) {
+            return "";
         }
+        try {
+            URI uri = new URI(url.trim());
+            if (uri.getScheme() == null || uri.getHost() == null) {
+                return url.trim();
+            }
+            String scheme = uri.getScheme().toLowerCase();
+            int port = uri.getPort();
+            if (("http".equals(scheme) && port == 80) || ("https".equals(scheme) && port == 443)) {
+                port = -1;
+            }
+            String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+            return scheme + "://" + uri.getHost().toLowerCase()
+                    + (port != -1 ? ":" + port : "")
+                    + path
+                    + (uri.getRawQuery() != null ? "?" + uri.getRawQuery() : "");
+        } catch (URISyntaxException e) {
+            return url.trim();
+        }
+    }
 
-        Browser browser = null;
+    /**
+     * 워커 스레드에서 실행되는 실제 크롤링 로직
+     */
+    private Map<String, String> crawlWithBrowser(Browser browser, String url, CrawlProfile profile) {
+        com.microsoft.playwright.BrowserContext context = null;
         Page page = null;
+        // 브라우저가 페이지 로드 중 받은 스타일시트 (재다운로드 방지)
+        StylesheetCapture stylesheetCapture = new StylesheetCapture();
+        // 프로필에 따른 리소스 차단 및 트래픽 기록
+        CrawlTrafficFilter trafficFilter = new CrawlTrafficFilter(profile, blockedDomains);
         try {
-            log.info("Playwright로 크롤링 시작: {}", url);
-
-            // 브라우저 실행 (headless 모드, 실제 브라우저처럼 보이게 설정)
-            BrowserType browserType = playwright.chromium();
-            browser = browserType.launch(new BrowserType.LaunchOptions()
-                    .setHeadless(true)
-                    .setTimeout(30000) // 브라우저 시작 타임아웃 30초
-                    .setArgs(java.util.Arrays.asList(
-                            "--disable-blink-features=AutomationControlled", // 자동화 감지 방지
-                            "--disable-dev-shm-usage",
-                            "--no-sandbox",
-                            "--disable-setuid-sandbox"
-                    )));
+            log.info("Playwright로 크롤링 시작: {} (프로필: {})", url, profile);
 
             // 브라우저 컨텍스트 생성 (쿠키, 세션 관리)
-            com.microsoft.playwright.BrowserContext context = browser.newContext(
+            context = browser.newContext(
                     new com.microsoft.playwright.Browser.NewContextOptions()
                             .setUserAgent("Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36")
                             .setViewportSize(1920, 1080)
@@ -119,6 +202,8 @@ public class CrawlerService {
 
             // 새 페이지 생성
             page = context.newPage();
+            trafficFilter.install(context, page);
+            stylesheetCapture.attach(page);
             
             // 페이지 타임아웃 설정 (5분)
             page.setDefaultTimeout(300000);
@@ -128,80 +213,54 @@ public class CrawlerService {
             page.addInitScript("window.chrome = {runtime: {}};");
             page.addInitScript("Object.defineProperty(navigator, 'plugins', {get: () => [1, 2, 3, 4, 5]});");
 
-            // 페이지 로드
+            // 페이지 로드 (DOMContentLoaded까지만 기다리고 나머지는 준비 상태 감지로 처리)
             log.info("페이지 로드 중...");
+            com.microsoft.playwright.Response mainResponse = null;
             try {
-                page.navigate(url);
+                mainResponse = page.navigate(url, new Page.NavigateOptions().setWaitUntil(WaitUntilState.DOMCONTENTLOADED));
             } catch (Exception e) {
                 log.warn("페이지 로드 중 오류 발생: {}. 현재 페이지 내용을 가져옵니다.", e.getMessage());
                 // 타임아웃이 발생해도 현재 페이지 내용은 가져올 수 있음
             }
 
-            // Cloudflare 검증 대기 (최대 30초 추가 대기)
-            log.info("Cloudflare 검증 대기 중...");
-            String html = "";
-            boolean isCloudflare = false;
-            
-            for (int attempt = 0; attempt < 6; attempt++) { // 최대 6번 시도 (총 30초)
-                try {
-                    Thread.sleep(5000); // 5초 대기
-                    html = page.content();
-                    
-                    // Cloudflare 검증 페이지인지 확인
-                    String htmlLower = html.toLowerCase();
-                    isCloudflare = htmlLower.contains("verify you are human") || 
-                                  htmlLower.contains("enable javascript and cookies") ||
-                                  htmlLower.contains("just a moment") ||
-                                  htmlLower.contains("checking your browser") ||
-                                  htmlLower.contains("ray id:");
-                    
-                    if (!isCloudflare) {
-                        // Cloudflare가 아니면 추가 대기 후 HTML 가져오기
-                        try {
-                            // 추가 대기 시간 (네트워크 요청 완료 대기)
-                            Thread.sleep(2000);
-                            html = page.content(); // 최신 HTML 가져오기
-                            log.info("Cloudflare 검증 완료 또는 검증 불필요");
-                        } catch (Exception e) {
-                            log.debug("HTML 가져오기 실패, 현재 HTML 사용: {}", e.getMessage());
-                            html = page.content(); // 최소한 현재 내용이라도 가져오기
-                        }
-                        break;
-                    } else {
-                        log.info("Cloudflare 검증 페이지 감지됨. 대기 중... (시도 {}/6)", attempt + 1);
-                    }
-                } catch (Exception e) {
-                    log.warn("HTML 가져오기 실패: {}", e.getMessage());
-                    if (html.isEmpty()) {
-                        html = page.content(); // 최소한 현재 내용이라도 가져오기
-                    }
-                }
-            }
-            
-            // 최종 HTML 가져오기
-            if (html.isEmpty()) {
-                html = page.content();
-            }
+            // 페이지 준비 완료 대기 (Cloudflare 검증 페이지면 통과할 때까지 최대 대기 시간 내에서 폴링)
+            boolean isCloudflare = pageReadinessWaiter.waitUntilReady(page);
+            String html = page.content();
             
             if (isCloudflare) {
                 log.warn("Cloudflare 검증 페이지가 반환됩니다. 사용자에게 표시됩니다.");
             }
             
-            // CSS 추출 (스타일 태그와 외부 스타일시트)
+            // CSS 추출 (스타일 태그와 외부 스타일시트, TEXT_ONLY 프로필이면 생략)
             String css = "";
-            try {
-                css = extractAllCSS(page, html);
-            } catch (Exception e) {
-                log.warn("CSS 추출 실패: {}", e.getMessage());
-                css = "";
+            if (profile.isExtractCss()) {
+                try {
+                    css = extractAllCSS(html, page.url(), stylesheetCapture);
+                } catch (Exception e) {
+                    log.warn("CSS 추출 실패: {}", e.getMessage());
+                    css = "";
+                }
             }
 
-            log.info("크롤링 완료. HTML 길이: {}, CSS 길이: {}, Cloudflare: {}", 
-                    html.length(), css.length(), isCloudflare);
+            long bytesSaved = crawlMetrics.recordCrawl(trafficFilter);
+            log.info("크롤링 완료. HTML 길이: {}, CSS 길이: {}, Cloudflare: {}, 차단 요청: {}개 (절약 추정 {}KB)", 
+                    html.length(), css.length(), isCloudflare, trafficFilter.getBlockedCount(), bytesSaved / 1024);
 
             Map<String, String> result = new HashMap<>();
             result.put("html", html);
             result.put("css", css);
+            result.put("finalUrl", page.url());
+            result.put("cloudflare", String.valueOf(isCloudflare));
+            // 크롤링 캐시 재검증용 헤더 (검증 페이지 응답은 제외)
+            if (mainResponse != null && !isCloudflare) {
+                Map<String, String> headers = mainResponse.headers();
+                if (headers.get("etag") != null) {
+                    result.put("etag", headers.get("etag"));
+                }
+                if (headers.get("last-modified") != null) {
+                    result.put("lastModified", headers.get("last-modified"));
+                }
+            }
             
             return result;
 
@@ -213,15 +272,18 @@ public class CrawlerService {
                     try {
                         String html = page.content();
                         String css = "";
-                        try {
-                            css = extractAllCSS(page, html);
-                        } catch (Exception ex) {
-                            log.warn("CSS 추출 실패: {}", ex.getMessage());
+                        if (profile.isExtractCss()) {
+                            try {
+                                css = extractAllCSS(html, page.url(), stylesheetCapture);
+                            } catch (Exception ex) {
+                                log.warn("CSS 추출 실패: {}", ex.getMessage());
+                            }
                         }
                         
                         Map<String, String> result = new HashMap<>();
                         result.put("html", html);
                         result.put("css", css);
+                        result.put("partial", "true"); // 로드가 끝나지 않은 내용 (캐시하지 않음)
                         log.warn("타임아웃 발생했지만 현재 페이지 내용을 반환합니다.");
                         return result;
                     } catch (Exception ex) {
@@ -232,20 +294,29 @@ public class CrawlerService {
             log.error("Playwright 크롤링 실패: {}", url, e);
             throw new RuntimeException("크롤링 실패: " + e.getMessage(), e);
         } finally {
-            if (browser != null) {
+            if (context != null) {
                 try {
-                    browser.close();
+                    context.close();
                 } catch (Exception e) {
-                    log.warn("브라우저 종료 실패: {}", e.getMessage());
+                    log.warn("브라우저 컨텍스트 종료 실패: {}", e.getMessage());
                 }
             }
         }
     }
 
+    /**
+     * 저장된 HTML의 스타일 태그와 외부 스타일시트로 CSS를 다시 구성 (크롤링 캐시 재검증용)
+     * 브라우저 없이 스타일시트 공유 캐시와 조건부 요청만 사용하므로, 크롤링 때와 같은 HTML이면 같은 방식으로 CSS가 만들어짐
+     * @param baseUrl 크롤링 시 최종 URL (상대 경로 스타일시트 기준)
+     */
+    public String rebuildCss(String html, String baseUrl) {
+        return extractAllCSS(html, baseUrl, null);
+    }
+
     /**
      * CSS를 추출하는 헬퍼 메서드
      */
-    private String extractAllCSS(Page page, String html) {
+    private String extractAllCSS(String html, String baseUrl, StylesheetCapture stylesheetCapture) {
         StringBuilder cssBuilder = new StringBuilder();
 
         try {
@@ -256,24 +327,8 @@ public class CrawlerService {
                 cssBuilder.append(styleTag.html()).append("\n");
             }
 
-            // 2. 외부 CSS 링크 추출 및 다운로드
-            Elements linkTags = doc.select("link[rel=stylesheet]");
-            for (Element linkTag : linkTags) {
-                String href = linkTag.attr("href");
-                if (href != null && !href.isEmpty()) {
-                    try {
-                        // 상대 URL을 절대 URL로 변환
-                        String absoluteUrl = resolveUrl(page.url(), href);
-                        String cssContent = fetchCSS(absoluteUrl);
-                        if (cssContent != null && !cssContent.isEmpty()) {
-                            cssBuilder.append("\n/* External CSS from: ").append(absoluteUrl).append(" */\n");
-                            cssBuilder.append(cssContent).append("\n");
-                        }
-                    } catch (Exception e) {
-                        log.warn("CSS 다운로드 실패: {}", href, e);
-                    }
-                }
-            }
+            // 2. 외부 CSS 링크 추출 (브라우저가 받은 응답 우선, 없으면 공유 캐시/병렬 다운로드)
+            appendExternalCSS(cssBuilder, doc.select("link[rel=stylesheet]"), baseUrl, stylesheetCapture);
 
             // 3. 인라인 스타일 속성도 유지 (HTML에 포함되어 있음)
 
@@ -305,19 +360,51 @@ public class CrawlerService {
     }
 
     /**
-     * 외부 CSS 파일 다운로드
+     * 외부 CSS를 문서 순서대로 추가
+     * 브라우저가 이미 받은 스타일시트는 캡처한 응답을 사용하고, 나머지만 병렬로 다운로드
+     * @param stylesheetCapture 브라우저 응답 캡처 (없으면 null)
      */
-    private String fetchCSS(String cssUrl) {
-        try {
-            Document doc = Jsoup.connect(cssUrl)
-                    .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36")
-                    .timeout(10000)
-                    .ignoreContentType(true)
-                    .get();
-            return doc.body().text();
-        } catch (Exception e) {
-            log.warn("CSS 다운로드 실패: {}", cssUrl);
-            return null;
+    private void appendExternalCSS(StringBuilder cssBuilder, Elements linkTags, String baseUrl,
+                                   StylesheetCapture stylesheetCapture) {
+        Set<String> cssUrls = new LinkedHashSet<>();
+        for (Element linkTag : linkTags) {
+            String href = linkTag.attr("href");
+            if (href != null && !href.isEmpty()) {
+                // 상대 URL을 절대 URL로 변환
+                cssUrls.add(resolveUrl(baseUrl, href));
+            }
+        }
+        if (cssUrls.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> cssContents = new HashMap<>();
+        List<String> missingUrls = new ArrayList<>();
+        for (String cssUrl : cssUrls) {
+            String captured = stylesheetCapture != null ? stylesheetCapture.getCss(cssUrl) : null;
+            if (captured != null) {
+                cssContents.put(cssUrl, captured);
+                // 다른 페이지 크롤링 시 재사용할 수 있도록 공유 캐시에도 저장
+                stylesheetFetcher.store(cssUrl, captured,
+                        stylesheetCapture.getHeader(cssUrl, "etag"),
+                        stylesheetCapture.getHeader(cssUrl, "last-modified"),
+                        stylesheetCapture.getHeader(cssUrl, "cache-control"));
+            } else {
+                missingUrls.add(cssUrl);
+            }
+        }
+        if (!missingUrls.isEmpty()) {
+            cssContents.putAll(stylesheetFetcher.fetchAll(missingUrls));
+        }
+        log.debug("외부 CSS {}개 중 브라우저 응답 사용 {}개, 별도 다운로드 {}개",
+                cssUrls.size(), cssUrls.size() - missingUrls.size(), missingUrls.size());
+
+        for (String cssUrl : cssUrls) {
+            String cssContent = cssContents.get(cssUrl);
+            if (cssContent != null && !cssContent.isEmpty()) {
+                cssBuilder.append("\n/* External CSS from: ").append(cssUrl).append(" */\n");
+                cssBuilder.append(cssContent).append("\n");
+            }
         }
     }
 
@@ -347,22 +434,7 @@ public class CrawlerService {
             }
 
             // 외부 CSS 링크 추출
-            Elements linkTags = doc.select("link[rel=stylesheet]");
-            for (Element linkTag : linkTags) {
-                String href = linkTag.attr("href");
-                if (href != null && !href.isEmpty()) {
-                    try {
-                        String absoluteUrl = resolveUrl(url, href);
-                        String cssContent = fetchCSS(absoluteUrl);
-                        if (cssContent != null && !cssContent.isEmpty()) {
-                            cssBuilder.append("\n/* External CSS from: ").append(absoluteUrl).append(" */\n");
-                            cssBuilder.append(cssContent).append("\n");
-                        }
-                    } catch (Exception e) {
-                        log.warn("CSS 다운로드 실패: {}", href);
-                    }
-                }
-            }
+            appendExternalCSS(cssBuilder, doc.select("link[rel=stylesheet]"), url, null);
 
             Map<String, String> result = new HashMap<>();
             result.put("html", html);
@@ -383,22 +455,10 @@ public class CrawlerService {
      * Playwright만 사용 (Jsoup fallback 제거)
      */
     public String crawlWebPage(String url) {
-        Map<String, String> result = crawlWebPageWithStyles(url);
+        // 텍스트만 필요하므로 이미지/폰트/미디어/CSS/광고 요청 차단
+        Map<String, String> result = crawlWebPageWithStyles(url, CrawlProfile.TEXT_ONLY);
         Document doc = Jsoup.parse(result.get("html"));
         doc.select("script, style").remove();
         return doc.body().text();
     }
-
-    /**
-     * 리소스 정리
-     */
-    public void cleanup() {
-        if (playwright != null) {
-            try {
-                playwright.close();
-            } catch (Exception e) {
-                log.warn("Playwright 종료 중 오류: {}", e.getMessage());
-            }
-        }
-    }
 }
\ No newline at end of file
@@ -0,0 +1,370 @@
+package com.project.Transflow.translate.service;
+
+import com.project.Transflow.term.entity.TermDictionary;
+import com.project.Transflow.term.event.TermDictionaryChangedEvent;
+import com.project.Transflow.term.repository.TermDictionaryRepository;
+import com.project.Transflow.translate.dto.DeepLGlossaryResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 용어 사전(TermDictionary)을 DeepL 용어집으로 동기화
+ * 언어 쌍마다 용어들을 TSV로 만들고 내용 해시를 버전으로 사용
+ * - 용어집 이름에 버전이 들어가므로 같은 버전이 이미 DeepL에 있으면 재사용 (재시작해도 새로 만들지 않음)
+ * - 버전이 바뀐 언어 쌍만 새 용어집을 만들고 그보다 오래된 버전 용어집은 삭제 (DeepL 용어집은 수정 불가)
+ *   직전 버전 하나는 남겨두어 이전 glossary_id로 진행 중인 요청이나 다른 인스턴스의 요청이 실패하지 않도록 함
+ * - 번역 요청에서 용어집이 없다는 오류가 나면 invalidate로 캐시를 버리고 다음 조회에서 다시 동기화
+ * 번역 요청에 glossary_id를 붙이면 용어가 번역 한 번에 적용되어 별도의 용어 교정이 필요 없음
+ * DeepL은 원본 언어가 지정된 요청에만 용어집을 적용하므로 자동 감지 요청은 용어집 없이 번역
+ * DeepL 용어집은 지역 코드 없이 언어 단위이므로 EN, EN-US, EN-GB로 저장된 용어는 모두 EN 용어집에 들어감
+ * 동기화에 실패한 언어 쌍(용어집을 지원하지 않는 언어 쌍 포함)은 일정 시간 동안 용어집 없이 번역하고 다시 시도하지 않음
+ */
+@Slf4j
+@Service
+public class DeepLGlossaryService {
+
+    private static final String NAME_PREFIX = "transflow";
+
+    private final TermDictionaryRepository termDictionaryRepository;
+    private final WebClient webClient;
+    private final String apiKey;
+    private final boolean enabled;
+    private final Duration requestTimeout;
+    private final long failureTtlMs;
+
+    // 언어 쌍 -> 동기화 결과 (동시에 여러 요청이 와도 동기화는 한 번만 실행되도록 캐시된 Mono 보관)
+    private final Map<String, SyncEntry> glossaries = new ConcurrentHashMap<>();
+
+    public DeepLGlossaryService(
+            TermDictionaryRepository termDictionaryRepository,
+            @Value("${deepl.glossary.enabled:true}") boolean enabled,
+            @Value("${deepl.api.url}") String apiUrl,
+            @Value("${deepl.glossary.url:}") String glossaryUrl,
+            @Value("${deepl.api.key}") String apiKey,
+            @Value("${deepl.api.timeout-ms:300000}") long timeoutMs,
+            @Value("${deepl.glossary.failure-ttl-ms:600000}") long failureTtlMs) {
+        this.termDictionaryRepository = termDictionaryRepository;
+        this.enabled = enabled;
+        this.apiKey = apiKey;
+        this.requestTimeout = Duration.ofMillis(timeoutMs);
+        this.failureTtlMs = failureTtlMs;
+        this.webClient = WebClient.builder()
+                .baseUrl(glossaryUrl == null || glossaryUrl.isEmpty() ? toGlossaryUrl(apiUrl) : glossaryUrl)
+                .build();
+    }
+
+    /**
+     * 번역에 사용할 용어집 조회 (아직 동기화하지 않은 언어 쌍이면 동기화 후 반환)
+     * 용어가 없거나 동기화에 실패하면 Glossary.NONE (용어집 없이 번역)
+     * 실패 결과는 failure-ttl-ms 동안 유지되고, 그 뒤의 요청에서 다시 동기화
+     */
+    public Mono<Glossary> resolve(String sourceLang, String targetLang) {
+        if (!enabled || sourceLang == null || sourceLang.isEmpty() || sourceLang.equalsIgnoreCase("auto")) {
+            return Mono.just(Glossary.NONE);
+        }
+        String source = toGlossaryLang(sourceLang);
+        String target = toGlossaryLang(targetLang);
+        long now = System.currentTimeMillis();
+        return glossaries.compute(pairKey(source, target), (key, entry) ->
+                entry == null || entry.isRetryDue(now, failureTtlMs) ? newSync(source, target) : entry).result;
+    }
+
+    /**
+     * DeepL에 더 이상 없는 용어집(다른 인스턴스나 외부에서 삭제)을 캐시에서 제거
+     * 캐시된 동기화 결과가 해당 용어집일 때만 제거하므로 그 사이에 만들어진 새 동기화 결과는 유지
+     */
+    public void invalidate(String sourceLang, String targetLang, String glossaryId) {
+        if (glossaryId == null || sourceLang == null || targetLang == null) {
+            return;
+        }
+        String key = pairKey(toGlossaryLang(sourceLang), toGlossaryLang(targetLang));
+        glossaries.computeIfPresent(key, (k, entry) -> {
+            if (!glossaryId.equals(entry.glossaryId)) {
+                return entry;
+            }
+            log.warn("DeepL 용어집을 찾을 수 없어 다시 동기화 - {}: {}", key, glossaryId);
+            return null;
+        });
+    }
+
+    /**
+     * 용어가 바뀐 언어 쌍은 트랜잭션 커밋 후 바로 다시 동기화
+     * 동기화가 끝날 때까지 해당 언어 쌍의 번역 요청은 새 용어집을 기다림
+     */
+    @TransactionalEventListener
+    public void onTermsChanged(TermDictionaryChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        String source = toGlossaryLang(event.getSourceLang());
+        String target = toGlossaryLang(event.getTargetLang());
+        SyncEntry next = newSync(source, target);
+        glossaries.put(pairKey(source, target), next);
+        next.result.subscribe();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("languagePairs", glossaries.size());
+        stats.put("failedPairs", glossaries.values().stream().filter(SyncEntry::isFailed).count());
+        return stats;
+    }
+
+    private SyncEntry newSync(String source, String target) {
+        SyncEntry entry = new SyncEntry();
+        entry.result = sync(source, target, entry);
+        return entry;
+    }
+
+    /**
+     * 언어 쌍의 용어를 DeepL 용어집으로 동기화 (결과는 캐시되어 구독할 때마다 다시 실행되지 않음)
+     * 용어는 언어 부분으로 조회하므로 지역 코드가 붙어 저장된 용어도 포함
+     */
+    private Mono<Glossary> sync(String source, String target, SyncEntry entry) {
+        String key = pairKey(source, target);
+        return Mono.fromCallable(() -> toEntries(termDictionaryRepository.findByBaseLanguages(source, target)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(entries -> listGlossaries().flatMap(existing -> {
+                    String prefix = NAME_PREFIX + "-" + key + "-";
+                    if (entries.isEmpty()) {
+                        // 용어가 모두 삭제된 언어 쌍은 용어집도 삭제
+                        return deleteGlossaries(existing, prefix, null).thenReturn(Glossary.NONE);
+                    }
+                    String version = version(entries);
+                    String name = prefix + version;
+                    Mono<String> glossaryId = existing.stream()
+                            .filter(glossary -> name.equals(glossary.getName()))
+                            .findFirst()
+                            .map(glossary -> Mono.just(glossary.getGlossary_id()))
+                            .orElseGet(() -> createGlossary(name, source, target, entries));
+                    return glossaryId.flatMap(id -> deleteGlossaries(existing, prefix, id)
+                            .thenReturn(new Glossary(id, version)));
+                }))
+                .doOnNext(glossary -> {
+                    entry.glossaryId = glossary.getId();
+                    log.info("DeepL 용어집 동기화 완료 - {}: {}", key,
+                            glossary.getId() != null ? glossary.getVersion() : "용어 없음");
+                })
+                .onErrorResume(e -> {
+                    // 실패 시각을 기록해두고 failure-ttl-ms가 지난 뒤의 요청에서 다시 동기화
+                    // (맵에서 직접 지우지 않으므로 그 사이에 바뀐 새 동기화 결과를 덮어쓰지 않음)
+                    log.warn("DeepL 용어집 동기화 실패 - {}: {} ({}ms 동안 용어집 없이 번역)",
+                            key, e.getMessage(), failureTtlMs);
+                    entry.failedAt = System.currentTimeMillis();
+                    return Mono.just(Glossary.NONE);
+                })
+                .cache();
+    }
+
+    private Mono<List<DeepLGlossaryResponse>> listGlossaries() {
+        return webClient.get()
+                .header(HttpHeaders.AUTHORIZATION, "DeepL-Auth-Key " + apiKey)
+                .retrieve()
+                .bodyToMono(DeepLGlossaryResponse.GlossaryList.class)
+                .timeout(requestTimeout)
+                .map(response -> response.getGlossaries() != null
+                        ? response.getGlossaries() : new ArrayList<DeepLGlossaryResponse>());
+    }
+
+    private Mono<String> createGlossary(String name, String source, String target, Map<String, String> entries) {
+        MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
+        formData.add("name", name);
+        formData.add("source_lang", source.toLowerCase());
+        formData.add("target_lang", target.toLowerCase());
+        formData.add("entries", toTsv(entries));
+        formData.add("entries_format", "tsv");
+
+        return webClient.post()
+                .header(HttpHeaders.AUTHORIZATION, "DeepL-Auth-Key " + apiKey)
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .bodyValue(formData)
+                .retrieve()
+                .bodyToMono(DeepLGlossaryResponse.class)
+                .timeout(requestTimeout)
+                .map(response -> {
+                    if (response.getGlossary_id() == null) {
+                        throw new RuntimeException("용어집 생성 결과가 비어있습니다.");
+                    }
+                    log.info("DeepL 용어집 생성: {} ({}개 용어)", name, entries.size());
+                    return response.getGlossary_id();
+                });
+    }
+
+    /**
+     * 언어 쌍의 오래된 버전 용어집 삭제 (삭제 실패는 동기화 결과에 영향 없음)
+     * 현재 버전(keepId)과 그 직전 버전(나머지 중 가장 최근에 만든 용어집)은 남김
+     */
+    private Mono<Void> deleteGlossaries(List<DeepLGlossaryResponse> existing, String prefix, String keepId) {
+        List<DeepLGlossaryResponse> others = new ArrayList<>();
+        for (DeepLGlossaryResponse glossary : existing) {
+            if (glossary.getName() != null && glossary.getName().startsWith(prefix)
+                    && !glossary.getGlossary_id().equals(keepId)) {
+                others.add(glossary);
+            }
+        }
+        others.sort(Comparator.comparing((DeepLGlossaryResponse glossary) -> creationTime(glossary)).reversed());
+        return Flux.fromIterable(others)
+                .skip(1)
+                .concatMap(glossary -> webClient.delete()
+                        .uri("/{glossaryId}", glossary.getGlossary_id())
+                        .header(HttpHeaders.AUTHORIZATION, "DeepL-Auth-Key " + apiKey)
+                        .retrieve()
+                        .toBodilessEntity()
+                        .timeout(requestTimeout)
+                        .doOnSuccess(response -> log.info("이전 DeepL 용어집 삭제: {}", glossary.getName()))
+                        .onErrorResume(e -> {
+                            log.warn("이전 DeepL 용어집 삭제 실패 - {}: {}", glossary.getName(), e.getMessage());
+                            return Mono.empty();
+                        }))
+                .then();
+    }
+
+    /**
+     * 용어 목록 -> 원문 용어 순으로 정렬된 (원문, 번역) 목록
+     * DeepL TSV에 넣을 수 없는 용어(탭/줄바꿈 포함, 빈 값)와 중복 원문은 제외
+     */
+    private static Map<String, String> toEntries(List<TermDictionary> terms) {
+        Map<String, String> entries = new TreeMap<>();
+        terms.stream()
+                .sorted(Comparator.comparing(TermDictionary::getId))
+                .forEach(term -> {
+                    String source = term.getSourceTerm() != null ? term.getSourceTerm().trim() : "";
+                    String target = term.getTargetTerm() != null ? term.getTargetTerm().trim() : "";
+                    if (source.isEmpty() || target.isEmpty() || hasLineBreakOrTab(source) || hasLineBreakOrTab(target)) {
+                        log.debug("DeepL 용어집에 넣을 수 없는 용어 제외: {}", source);
+                        return;
+                    }
+                    entries.putIfAbsent(source, target);
+                });
+        return entries;
+    }
+
+    /**
+     * 용어집 생성 시각 (값이 없거나 형식이 다르면 가장 오래된 것으로 취급)
+     */
+    private static Instant creationTime(DeepLGlossaryResponse glossary) {
+        try {
+            return glossary.getCreation_time() != null ? Instant.parse(glossary.getCreation_time()) : Instant.EPOCH;
+        } catch (DateTimeParseException e) {
+            return Instant.EPOCH;
+        }
+    }
+
+    private static boolean hasLineBreakOrTab(String text) {
+        return text.indexOf('\t') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+    }
+
+    private static String toTsv(Map<String, String> entries) {
+        StringBuilder tsv = new StringBuilder();
+        entries.forEach((source, target) -> tsv.append(source).append('\t').append(target).append('\n'));
+        return tsv.toString();
+    }
+
+    /**
+     * 용어집 버전 = TSV 내용 해시 앞 16자리
+     */
+    private static String version(Map<String, String> entries) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(toTsv(entries).getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(16);
+            for (int i = 0; i < 8; i++) {
+                hex.append(String.format("%02x", hash[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 용어집 언어 코드 (EN-US, PT-BR 같은 지역 코드는 언어 부분만 사용)
+     */
+    private static String toGlossaryLang(String lang) {
+        String upper = lang.toUpperCase();
+        int dash = upper.indexOf('-');
+        return dash > 0 ? upper.substring(0, dash) : upper;
+    }
+
+    private static String pairKey(String source, String target) {
+        return source + "-" + target;
+    }
+
+    /**
+     * 번역 API URL(.../v2/translate)에서 용어집 API URL(.../v2/glossaries) 유도
+     */
+    private static String toGlossaryUrl(String apiUrl) {
+        String url = apiUrl.endsWith("/") ? apiUrl.substring(0, apiUrl.length() - 1) : apiUrl;
+        if (url.endsWith("/translate")) {
+            return url.substring(0, url.length() - "/translate".length()) + "/glossaries";
+        }
+        return url + "/glossaries";
+    }
+
+    /**
+     * 언어 쌍의 동기화 결과, 동기화된 용어집 ID, 실패 시각 (실패하지 않았으면 0)
+     */
+    private static final class SyncEntry {
+        private Mono<Glossary> result;
+        private volatile String glossaryId;
+        private volatile long failedAt;
+
+        boolean isFailed() {
+            return failedAt > 0;
+        }
+
+        boolean isRetryDue(long now, long ttlMs) {
+            return isFailed() && now - failedAt >= ttlMs;
+        }
+    }
+
+    /**
+     * 번역에 적용할 용어집 (id가 null이면 용어집 없음)
+     * version은 번역 메모리 키에 포함되어 용어가 바뀌면 이전 번역을 재사용하지 않음
+     */
+    public static final class Glossary {
+
+        public static final Glossary NONE = new Glossary(null, TranslationMemoryService.NO_GLOSSARY);
+
+        private final String id;
+        private final String version;
+
+        Glossary(String id, String version) {
+            this.id = id;
+            this.version = version;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getVersion() {
+            return version;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.project.Transflow.translate.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DeepL API 호출 속도 제한 (프로세스 전체 공유)
+ * 토큰 버킷으로 요청 간격을 조절하고, 허용 속도는 AIMD 방식으로 조정
+ * - 성공 시 속도를 조금씩 올림 (additive increase)
+ * - 429 응답 시 속도를 절반으로 낮춤 (multiplicative decrease)
+ * 대기는 Reactor 지연으로 처리하므로 스레드를 점유하지 않음
+ */
+@Slf4j
+@Component
+public class DeepLRateLimiter {
+
+    private final double minRate;
+    private final double maxRate;
+    private final double increaseStep;
+    private final double burst;
+    private final long decreaseCooldownNanos;
+
+    // 현재 허용 속도 (초당 요청 수)
+    private double rate;
+    // 다음 요청을 보낼 수 있는 시각 (nanoTime 기준)
+    private long nextFreeAt = System.nanoTime();
+    private long lastDecreaseAt = 0;
+
+    // 메트릭
+    private final AtomicLong acquiredCount = new AtomicLong();
+    private final AtomicLong delayedCount = new AtomicLong();
+    private final AtomicLong totalDelayMillis = new AtomicLong();
+    private final AtomicLong rateLimitedCount = new AtomicLong();
+
+    public DeepLRateLimiter(
+            @Value("${deepl.rate-limit.initial-rps:5}") double initialRate,
+            @Value("${deepl.rate-limit.min-rps:0.5}") double minRate,
+            @Value("${deepl.rate-limit.max-rps:20}") double maxRate,
+            @Value("${deepl.rate-limit.increase-step:0.5}") double increaseStep,
+            @Value("${deepl.rate-limit.burst:2}") double burst,
+            @Value("${deepl.rate-limit.decrease-cooldown-ms:1000}") long decreaseCooldownMs) {
+        this.minRate = Math.max(0.01, minRate);
+        this.maxRate = Math.max(this.minRate, maxRate);
+        this.rate = Math.min(this.maxRate, Math.max(this.minRate, initialRate));
+        this.increaseStep = Math.max(0, increaseStep);
+        this.burst = Math.max(1, burst);
+        this.decreaseCooldownNanos = Duration.ofMillis(decreaseCooldownMs).toNanos();
+    }
+
+    /**
+     * 요청 하나를 보낼 수 있을 때 완료되는 Mono
+     * 구독 시점에 순번을 예약하므로 재시도마다 새로 구독하면 다시 대기
+     */
+    public Mono<Void> acquire() {
+        return Mono.defer(() -> {
+            long delayNanos = reserve();
+            acquiredCount.incrementAndGet();
+            if (delayNanos <= 0) {
+                return Mono.empty();
+            }
+            long delayMillis = Duration.ofNanos(delayNanos).toMillis();
+            delayedCount.incrementAndGet();
+            totalDelayMillis.addAndGet(delayMillis);
+            return Mono.delay(Duration.ofNanos(delayNanos)).then();
+        });
+    }
+
+    /**
+     * 요청 성공 시 호출 - 허용 속도 증가
+     */
+    public synchronized void onSuccess() {
+        rate = Math.min(maxRate, rate + increaseStep);
+    }
+
+    /**
+     * 429 응답 시 호출 - 허용 속도를 절반으로 감소
+     * 동시에 보낸 요청들이 한꺼번에 429를 받아도 한 번만 줄이도록 쿨다운 적용
+     */
+    public synchronized void onRateLimited() {
+        rateLimitedCount.incrementAndGet();
+        long now = System.nanoTime();
+        if (lastDecreaseAt != 0 && now - lastDecreaseAt < decreaseCooldownNanos) {
+            return;
+        }
+        lastDecreaseAt = now;
+        double previous = rate;
+        rate = Math.max(minRate, rate / 2);
+        // 이미 예약된 순번 이후로 한 간격 더 미뤄서 곧바로 다시 몰리지 않도록 함
+        nextFreeAt = Math.max(nextFreeAt, now) + intervalNanos();
+        log.warn("DeepL API Rate Limit (429) - 요청 속도 조정: {} -> {} req/s",
+                String.format("%.2f", previous), String.format("%.2f", rate));
+    }
+
+    public synchronized Map<String, Object> getStats() {
+        long acquired = acquiredCount.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("currentRate", Math.round(rate * 100) / 100.0);
+        stats.put("minRate", minRate);
+        stats.put("maxRate", maxRate);
+        stats.put("acquiredCount", acquired);
+        stats.put("delayedCount", delayedCount.get());
+        stats.put("avgDelayMillis", acquired == 0 ? 0 : totalDelayMillis.get() / acquired);
+        stats.put("rateLimitedCount", rateLimitedCount.get());
+        return stats;
+    }
+
+    /**
+     * 다음 순번 예약
+     * @return 요청을 보내기 전까지 기다려야 하는 시간 (나노초)
+     */
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+        long interval = intervalNanos();
+        // 한동안 요청이 없었으면 burst 만큼은 바로 보낼 수 있도록 허용
+        long earliest = now - (long) ((burst - 1) * interval);
+        if (nextFreeAt < earliest) {
+            nextFreeAt = earliest;
+        }
+        long slot = nextFreeAt;
+        nextFreeAt = slot + interval;
+        return slot - now;
+    }
+
+    private long intervalNanos() {
+        return (long) (1_000_000_000L / rate);
+    }
+}
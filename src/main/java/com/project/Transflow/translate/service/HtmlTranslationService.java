@@ -1,17 +1,27 @@
 package com.project.Transflow.translate.service;
 
+import com.project.Transflow.translate.dto.HtmlTranslationResult;
+import com.project.Transflow.translate.dto.TagHandling;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
+import org.jsoup.nodes.Attribute;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.nodes.Node;
 import org.jsoup.nodes.TextNode;
+import org.jsoup.select.NodeFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
-import java.util.regex.Pattern;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
 
 /**
  * HTML 구조를 유지하면서 텍스트만 번역하는 서비스
@@ -21,13 +31,23 @@ import java.util.regex.Pattern;
 @RequiredArgsConstructor
 public class HtmlTranslationService {
 
-    private final TranslationService translationService;
+    private final TranslationBatchPlanner batchPlanner;
+    private final TranslationBatchDispatcher batchDispatcher;
 
-    // 번역하지 않아야 할 태그들
-    private static final List<String> SKIP_TAGS = List.of(
-            "script", "style", "noscript", "code", "pre"
+    // XML: 문맥 그룹의 텍스트 노드를 자리표시 태그로 감싸 보내고 노드별 번역을 그대로 받음
+    // NONE: 그룹 텍스트를 합쳐 번역한 뒤 글자 수 비율로 노드에 분배
+    @Value("${translation.html.tag-handling:XML}")
+    private TagHandling tagHandling;
+
+    // 문맥 단위로 간주할 태그들 (문단, 제목, 리스트 항목 등)
+    private static final Set<String> CONTEXT_TAGS = Set.of(
+            "p", "h1", "h2", "h3", "h4", "h5", "h6", "li", "td", "th",
+            "blockquote", "article", "section", "div", "span"
     );
 
+    // 스트리밍 번역 시 블록 식별용 속성
+    private static final String BLOCK_ID_ATTR = "data-tf-block";
+
 
     /**
      * HTML을 파싱하여 텍스트 노드만 번역하고 HTML 구조는 유지
@@ -38,74 +58,45 @@ public class HtmlTranslationService {
      * @return 번역된 HTML
      */
     public String translateHtml(String html, String targetLang, String sourceLang) {
+        return translateHtml(html, targetLang, sourceLang, TranslationProgressListener.NONE).getTranslatedHtml();
+    }
+
+    /**
+     * HTML 번역 (진행 상황 전달)
+     * 번역 전 원본과 배치가 끝날 때마다 번역된 블록을 listener로 전달
+     * HTML은 한 번만 파싱하고, 같은 DOM에서 번역 전/후 본문 텍스트까지 추출
+     */
+    public HtmlTranslationResult translateHtml(String html, String targetLang, String sourceLang,
+                                               TranslationProgressListener listener) {
         try {
             log.info("HTML 번역 시작 - Target: {}, HTML 길이: {}자", targetLang, html.length());
 
             Document doc = Jsoup.parse(html);
-            
-            // JavaScript 완전 제거 (번역 전에 제거하여 동적 콘텐츠 변경 방지)
-            // 1. 모든 script 태그 제거 (인라인, 외부 모두) - 여러 번 제거하여 확실히
-            doc.select("script").remove();
-            doc.select("noscript").remove();
-            // 혹시 모를 경우를 위해 다시 한 번
-            doc.select("script").remove();
-            
-            // 2. 외부 스크립트 파일 링크 제거
-            doc.select("link[rel='preload'][as='script']").remove();
-            doc.select("link[rel='modulepreload']").remove();
-            // type이 module인 스크립트도 제거
-            doc.select("script[type='module']").remove();
-            doc.select("script[type='text/javascript']").remove();
-            
-            // 3. 이벤트 핸들러 속성 제거 (onclick, onload 등)
-            doc.select("*").forEach(element -> {
-                java.util.List<org.jsoup.nodes.Attribute> attrsToRemove = new java.util.ArrayList<>();
-                element.attributes().forEach(attr -> {
-                    String key = attr.getKey().toLowerCase();
-                    // 이벤트 핸들러 제거
-                    if (key.startsWith("on")) {
-                        attrsToRemove.add(attr);
-                    }
-                });
-                attrsToRemove.forEach(attr -> element.removeAttr(attr.getKey()));
-            });
-            
-            // 4. React나 다른 프레임워크가 실행되지 않도록 제거
-            // React는 data-reactroot 등을 사용하므로 제거
-            doc.select("[data-reactroot]").removeAttr("data-reactroot");
-            doc.select("[data-react-helmet]").removeAttr("data-react-helmet");
-            // React 컴포넌트 마운트 지점 제거
-            doc.select("#root, #app, [id^='react'], [class^='react']").forEach(element -> {
-                // React 관련 속성 제거
-                element.removeAttr("data-reactroot");
-                element.removeAttr("data-react-helmet");
-            });
-            
-            // 5. 외부 API 호출을 하는 요소 제거 또는 비활성화
-            // iframe 제거 (다른 페이지 로드 방지)
-            doc.select("iframe[src]").forEach(iframe -> {
-                iframe.removeAttr("src");
-                iframe.attr("data-disabled", "true");
-            });
-            
-            // 6. manifest.json 링크 제거 (로컬 파일 로드 방지)
-            doc.select("link[rel='manifest']").remove();
-            
-            // 번역할 텍스트 노드들을 수집
-            List<TranslatableText> translatableTexts = collectTranslatableTexts(doc);
+
+            // 번역 전 본문 텍스트 (스크립트/스타일 내용은 텍스트에 포함되지 않음)
+            // <noscript>가 제거되기 전에 추출하여 이전과 같이 noscript 안의 텍스트도 포함
+            String originalText = doc.body().text();
+
+            // JavaScript/이벤트 핸들러/프레임워크 속성 제거와 번역할 텍스트 노드 수집을 한 번의 순회로 처리
+            // (번역 전에 제거하여 동적 콘텐츠 변경 방지)
+            SanitizingCollector collector = new SanitizingCollector();
+            doc.filter(collector);
+            List<TranslatableText> translatableTexts = collector.texts;
 
             log.info("번역 가능한 텍스트 노드 수: {}", translatableTexts.size());
+            if (translatableTexts.isEmpty()) {
+                // 번역할 텍스트가 없어도 원본은 전달 (번역 블록 없음)
+                listener.onOriginal(doc.html(), 0);
+            }
 
             // 텍스트들을 배치로 번역 (DeepL API 효율성 고려)
-            translateTextNodes(translatableTexts, targetLang, sourceLang);
+            translateTextNodes(translatableTexts, targetLang, sourceLang, listener);
+
+            // 스트리밍용 블록 식별 속성 제거 (번역은 텍스트 노드만 바꾸므로 스크립트가 다시 생기지 않음)
+            if (listener != TranslationProgressListener.NONE) {
+                doc.select("[" + BLOCK_ID_ATTR + "]").removeAttr(BLOCK_ID_ATTR);
+            }
 
-            // 번역된 텍스트로 HTML 재구성 전에 한 번 더 스크립트 제거 (혹시 모를 경우 대비)
-            doc.select("script").remove();
-            doc.select("noscript").remove();
-            
-            // React나 다른 프레임워크의 초기화 코드가 있는지 확인하고 제거
-            // window 객체를 사용하는 인라인 코드 제거를 위해 <script> 태그는 이미 제거됨
-            
             // 번역된 텍스트로 HTML 재구성
             String translatedHtml = doc.html();
             
@@ -123,7 +114,7 @@ public class HtmlTranslationService {
             }
 
             log.info("HTML 번역 완료");
-            return translatedHtml;
+            return new HtmlTranslationResult(translatedHtml, originalText, doc.body().text());
 
         } catch (Exception e) {
             log.error("HTML 번역 실패", e);
@@ -132,169 +123,193 @@ public class HtmlTranslationService {
     }
 
     /**
-     * 번역 가능한 텍스트 노드들을 수집
+     * 텍스트 노드들을 번역
+     * 문맥 그룹 단위로 텍스트를 합친 뒤, 여러 그룹을 하나의 DeepL 요청(다중 text 파라미터)으로 묶고
+     * 요청들은 동시에 전송하여 번역
+     * XML 태그 처리 모드에서는 그룹 내 노드 위치를 자리표시 태그로 보내서 번역문을 노드별로 나눔
      */
-    private List<TranslatableText> collectTranslatableTexts(Document doc) {
-        List<TranslatableText> texts = new ArrayList<>();
-
-        // 모든 텍스트 노드를 순회
-        doc.traverse(new org.jsoup.select.NodeVisitor() {
-            @Override
-            public void head(Node node, int depth) {
-                if (node instanceof TextNode) {
-                    TextNode textNode = (TextNode) node;
-                    String text = textNode.text().trim();
-                    
-                    // 빈 텍스트나 공백만 있는 경우 스킵
-                    if (text.isEmpty() || text.length() < 2) {
-                        return;
-                    }
-
-                    // 부모 태그 확인
-                    Node parentNode = textNode.parent();
-                    if (parentNode instanceof Element) {
-                        Element parent = (Element) parentNode;
-                        if (SKIP_TAGS.contains(parent.tagName().toLowerCase())) {
-                            return;
-                        }
-                    }
-
-                    // 특정 패턴 스킵 (URL, 이메일, 숫자만 있는 경우 등)
-                    if (shouldSkipText(text)) {
-                        return;
-                    }
-
-                    texts.add(new TranslatableText(textNode, text));
+    private void translateTextNodes(List<TranslatableText> texts, String targetLang, String sourceLang,
+                                    TranslationProgressListener listener) {
+        if (texts.isEmpty()) {
+            return;
+        }
+
+        log.info("번역 시작 - 총 {}개 텍스트 노드", texts.size());
+        
+        // 문맥을 고려한 그룹화: 같은 부모 요소(문단, 섹션 등)의 텍스트를 함께 번역
+        List<ContextGroup> contextGroups = new ArrayList<>();
+        for (List<TranslatableText> nodes : groupByContext(texts)) {
+            String fullText = combineText(nodes);
+            if (fullText.isEmpty()) {
+                log.debug("빈 텍스트 그룹 스킵");
+                continue;
+            }
+            String requestText = fullText;
+            if (tagHandling == TagHandling.XML) {
+                List<String> nodeTexts = new ArrayList<>(nodes.size());
+                nodes.forEach(tt -> nodeTexts.add(tt.originalText));
+                requestText = PlaceholderTagCodec.encode(nodeTexts);
+            }
+            contextGroups.add(new ContextGroup(nodes, fullText, requestText, nodes.get(0).contextElement));
+        }
+
+        if (listener != TranslationProgressListener.NONE) {
+            // 블록마다 식별자를 붙인 원본을 먼저 전달
+            int blockCount = 0;
+            for (ContextGroup group : contextGroups) {
+                if (group.block != null && !group.block.hasAttr(BLOCK_ID_ATTR)) {
+                    group.block.attr(BLOCK_ID_ATTR, String.valueOf(blockCount++));
                 }
             }
+            listener.onOriginal(texts.get(0).textNode.ownerDocument().html(), blockCount);
+        }
 
-            @Override
-            public void tail(Node node, int depth) {
-                // 필요 없음
+        // 요청당 텍스트 수 / 본문 크기 제한 안에서 그룹들을 묶음
+        List<List<ContextGroup>> batches = batchPlanner.plan(contextGroups, group -> group.requestText);
+        log.info("문맥 그룹 수: {}개, DeepL 요청 수: {}개", contextGroups.size(), batches.size());
+        
+        int totalTextLength = 0; // 번역할 총 텍스트 길이 (번역 메모리에 있는 텍스트 포함)
+        List<List<String>> batchTexts = new ArrayList<>(batches.size());
+        for (List<ContextGroup> batch : batches) {
+            List<String> groupTexts = new ArrayList<>(batch.size());
+            for (ContextGroup group : batch) {
+                groupTexts.add(group.requestText);
+                totalTextLength += group.fullText.length();
             }
+            batchTexts.add(groupTexts);
+        }
+        log.info("번역 요청 - 텍스트 길이: {}자 ({}개 요청 동시 처리)", totalTextLength, batches.size());
+
+        // DeepL API로 실제 전송된 텍스트 길이 (번역 메모리에서 가져온 텍스트 제외, 요금제 사용량 추적)
+        AtomicLong charactersSent = new AtomicLong();
+
+        // 배치들을 동시에 번역하고, 끝나는 순서대로 현재 스레드에서 문서에 반영
+        List<TranslatableText> failedNodes = new ArrayList<>();
+        List<ContextGroup> failedGroups = new ArrayList<>();
+        int[] misalignedGroups = {0};
+        int[] groupsDone = {0};
+        listener.onProgress(0, contextGroups.size(), 0);
+        batchDispatcher.dispatchEach(batchTexts, targetLang, sourceLang, tagHandling, charactersSent::addAndGet,
+                (index, translatedTexts) -> {
+            List<ContextGroup> batch = batches.get(index);
+            if (translatedTexts == null) {
+                batch.forEach(group -> failedNodes.addAll(group.nodes));
+                failedGroups.addAll(batch);
+                return;
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                if (!applyTranslation(batch.get(i), translatedTexts.get(i))) {
+                    misalignedGroups[0]++;
+                }
+            }
+            notifyBlocks(batch, listener);
+            groupsDone[0] += batch.size();
+            listener.onProgress(groupsDone[0], contextGroups.size(), charactersSent.get());
         });
+        if (misalignedGroups[0] > 0) {
+            log.warn("자리표시 태그가 맞지 않아 비율로 분배한 문맥 그룹: {}개", misalignedGroups[0]);
+        }
 
-        return texts;
+        if (!failedNodes.isEmpty()) {
+            log.warn("번역 실패한 배치의 텍스트 노드 {}개를 노드 단위로 폴백", failedNodes.size());
+            translateNodesIndividually(failedNodes, targetLang, sourceLang, charactersSent::addAndGet);
+            notifyBlocks(failedGroups, listener);
+            listener.onProgress(contextGroups.size(), contextGroups.size(), charactersSent.get());
+        }
+        
+        log.info("모든 텍스트 노드 번역 완료! (총 {}개 배치, DeepL API로 전송된 총 텍스트 길이: {}자)", 
+                batches.size(), charactersSent.get());
     }
 
     /**
-     * 번역하지 않아야 할 텍스트인지 확인
+     * 번역이 반영된 블록들을 listener로 전달 (같은 블록은 한 번만)
      */
-    private boolean shouldSkipText(String text) {
-        // URL 패턴
-        if (Pattern.matches("^https?://.*", text)) {
-            return true;
-        }
-        
-        // 이메일 패턴
-        if (Pattern.matches("^[\\w-\\.]+@([\\w-]+\\.)+[\\w-]{2,4}$", text)) {
-            return true;
-        }
-        
-        // 숫자만 있는 경우
-        if (Pattern.matches("^\\d+$", text)) {
-            return true;
+    private void notifyBlocks(List<ContextGroup> groups, TranslationProgressListener listener) {
+        if (listener == TranslationProgressListener.NONE) {
+            return;
         }
-        
-        // 공백이나 특수문자만 있는 경우
-        if (Pattern.matches("^[\\s\\p{Punct}]+$", text)) {
-            return true;
+        Set<Element> notified = new HashSet<>();
+        for (ContextGroup group : groups) {
+            if (group.block != null && group.block.hasAttr(BLOCK_ID_ATTR) && notified.add(group.block)) {
+                listener.onBlockTranslated(group.block.attr(BLOCK_ID_ATTR), group.block.html());
+            }
         }
-
-        return false;
     }
 
     /**
-     * 텍스트 노드들을 번역
-     * 문맥을 고려한 배치 번역으로 품질과 속도 모두 개선
+     * 문맥 그룹 번역 실패 시 폴백: 텍스트 노드를 각각 번역 (노드 텍스트들도 배치로 묶어서 요청)
+     * @param onCharactersSent DeepL API로 실제 전송된 텍스트 길이
      */
-    private void translateTextNodes(List<TranslatableText> texts, String targetLang, String sourceLang) {
-        if (texts.isEmpty()) {
-            return;
+    private void translateNodesIndividually(List<TranslatableText> nodes, String targetLang, String sourceLang,
+                                            LongConsumer onCharactersSent) {
+        List<List<TranslatableText>> batches = batchPlanner.plan(nodes, tt -> tt.originalText);
+        List<List<String>> batchTexts = new ArrayList<>(batches.size());
+        for (List<TranslatableText> batch : batches) {
+            List<String> nodeTexts = new ArrayList<>(batch.size());
+            for (TranslatableText tt : batch) {
+                nodeTexts.add(tt.originalText);
+            }
+            batchTexts.add(nodeTexts);
         }
 
-        log.info("번역 시작 - 총 {}개 텍스트 노드", texts.size());
-        
-        // 문맥을 고려한 그룹화: 같은 부모 요소(문단, 섹션 등)의 텍스트를 함께 번역
-        List<List<TranslatableText>> contextGroups = groupByContext(texts);
-        log.info("문맥 그룹 수: {}개", contextGroups.size());
-        
-        int totalBatches = 0;
-        int currentBatchNumber = 0;
-        int totalTextLengthSent = 0; // DeepL API로 전송된 총 텍스트 길이 (요금제 사용량 추적)
-        
-        // 각 문맥 그룹을 처리
-        for (List<TranslatableText> contextGroup : contextGroups) {
-            // 문맥 그룹의 모든 텍스트를 합쳐서 하나의 문장/문단으로 번역
-            // 이렇게 하면 문맥이 유지되어 번역 품질이 향상됨
-            if (contextGroup.isEmpty()) {
+        List<List<String>> translatedBatches = batchDispatcher.dispatch(
+                batchTexts, targetLang, sourceLang, TagHandling.NONE, onCharactersSent);
+        for (int b = 0; b < batches.size(); b++) {
+            List<TranslatableText> batch = batches.get(b);
+            List<String> translatedTexts = translatedBatches.get(b);
+            if (translatedTexts == null) {
+                log.warn("개별 번역 실패 ({}개 텍스트 노드)", batch.size());
                 continue;
             }
-            
-            // 같은 문맥 그룹의 모든 텍스트를 합치기
-            StringBuilder combinedText = new StringBuilder();
-            for (int i = 0; i < contextGroup.size(); i++) {
-                TranslatableText tt = contextGroup.get(i);
-                String text = tt.originalText;
-                
-                // 텍스트 사이에 공백 추가 (단, 이미 공백으로 시작/끝나면 제외)
-                if (i > 0 && !text.startsWith(" ") && !combinedText.toString().endsWith(" ")) {
-                    combinedText.append(" ");
-                }
-                combinedText.append(text);
-            }
-            
-            String fullText = combinedText.toString().trim();
-            
-            // 빈 텍스트 체크
-            if (fullText.isEmpty()) {
-                log.debug("빈 텍스트 그룹 스킵");
-                continue;
-            }
-            
-            // DeepL API로 전송되는 텍스트 길이 로깅 (요금제 사용량 추적)
-            int textLength = fullText.length();
-            totalTextLengthSent += textLength;
-            log.info("DeepL API 전송 - 텍스트 길이: {}자 (문맥 그룹: {}개 텍스트 노드)", 
-                    textLength, contextGroup.size());
-            
-            // 합쳐진 텍스트를 번역
-            try {
-                String translatedText = translationService.translate(fullText, targetLang, sourceLang);
-                
-                // 번역된 텍스트를 원래 텍스트 노드들에 분배
-                // 원본 텍스트의 비율에 따라 번역된 텍스트를 분배
-                distributeTranslatedText(contextGroup, fullText, translatedText);
-                
-                currentBatchNumber++;
-                totalBatches++;
-                log.info("문맥 그룹 번역 완료 ({}, {}개 텍스트 노드)", 
-                        currentBatchNumber, contextGroup.size());
-                
-            } catch (Exception e) {
-                log.error("문맥 그룹 번역 실패: {}", e.getMessage());
-                // 실패 시 개별 번역으로 폴백
-                for (TranslatableText tt : contextGroup) {
-                    try {
-                        String translated = translationService.translate(tt.originalText, targetLang, sourceLang);
-                        tt.textNode.text(translated.trim());
-                    } catch (Exception ex) {
-                        log.warn("개별 번역 실패: {}", ex.getMessage());
-                    }
-                }
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).textNode.text(translatedTexts.get(i).trim());
             }
+        }
+    }
+
+    /**
+     * 문맥 그룹의 번역 결과를 텍스트 노드에 적용
+     * @return 노드별로 정확히 나눠 적용했으면 true, 자리표시 태그가 맞지 않아 비율로 분배했으면 false
+     */
+    private boolean applyTranslation(ContextGroup group, String translated) {
+        if (tagHandling != TagHandling.XML) {
+            // 번역된 텍스트를 원래 텍스트 노드들에 분배
+            distributeTranslatedText(group.nodes, group.fullText, translated);
+            return true;
+        }
+        List<String> segments = PlaceholderTagCodec.decode(translated, group.nodes.size());
+        if (segments == null) {
+            // 재번역하지 않고 태그를 제거한 번역문을 비율로 분배
+            distributeTranslatedText(group.nodes, group.fullText, PlaceholderTagCodec.stripTags(translated));
+            return false;
+        }
+        for (int i = 0; i < segments.size(); i++) {
+            String segment = segments.get(i);
+            group.nodes.get(i).textNode.text(segment.isEmpty() ? " " : segment);
+        }
+        return true;
+    }
+
+    /**
+     * 같은 문맥 그룹의 모든 텍스트를 하나의 문장/문단으로 합침
+     */
+    private String combineText(List<TranslatableText> contextGroup) {
+        int capacity = contextGroup.size();
+        for (TranslatableText tt : contextGroup) {
+            capacity += tt.originalText.length();
+        }
+        StringBuilder combinedText = new StringBuilder(capacity);
+        for (int i = 0; i < contextGroup.size(); i++) {
+            String text = contextGroup.get(i).originalText;
             
-            // 배치 간 짧은 대기 (50ms)
-            try {
-                Thread.sleep(50);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.warn("배치 간 대기 중 인터럽트 발생");
+            // 텍스트 사이에 공백 추가 (단, 이미 공백으로 시작/끝나면 제외)
+            // (마지막 글자만 확인하여 매번 문자열로 복사하지 않음)
+            if (i > 0 && !text.startsWith(" ") && combinedText.charAt(combinedText.length() - 1) != ' ') {
+                combinedText.append(" ");
             }
+            combinedText.append(text);
         }
-        
-        log.info("모든 텍스트 노드 번역 완료! (총 {}개 배치, DeepL API로 전송된 총 텍스트 길이: {}자)", 
-                totalBatches, totalTextLengthSent);
+        return combinedText.toString().trim();
     }
     
     /**
@@ -347,6 +362,7 @@ public class HtmlTranslationService {
     /**
      * 문맥을 고려하여 텍스트 노드를 그룹화
      * 같은 부모 요소(문단, 섹션 등)의 텍스트를 합쳐서 하나의 문장/문단으로 번역
+     * 문맥 단위 요소는 텍스트 노드 수집 시 이미 구해져 있으므로 한 번 훑기만 함
      */
     private List<List<TranslatableText>> groupByContext(List<TranslatableText> texts) {
         List<List<TranslatableText>> groups = new ArrayList<>();
@@ -354,35 +370,10 @@ public class HtmlTranslationService {
         Element lastParent = null;
         
         for (TranslatableText translatableText : texts) {
-            Node parentNode = translatableText.textNode.parent();
-            Element currentParent = null;
-            
-            if (parentNode instanceof Element) {
-                currentParent = (Element) parentNode;
-                
-                // 문단, 제목, 리스트 항목 등 문맥 단위 찾기
-                while (currentParent != null) {
-                    String tagName = currentParent.tagName().toLowerCase();
-                    // 문맥 단위로 간주할 태그들
-                    if (tagName.equals("p") || tagName.equals("h1") || tagName.equals("h2") || 
-                        tagName.equals("h3") || tagName.equals("h4") || tagName.equals("h5") || 
-                        tagName.equals("h6") || tagName.equals("li") || tagName.equals("td") || 
-                        tagName.equals("th") || tagName.equals("blockquote") || 
-                        tagName.equals("article") || tagName.equals("section") ||
-                        tagName.equals("div") || tagName.equals("span")) {
-                        break;
-                    }
-                    Node parent = currentParent.parent();
-                    if (parent instanceof Element) {
-                        currentParent = (Element) parent;
-                    } else {
-                        currentParent = null;
-                    }
-                }
-            }
+            Element currentParent = translatableText.contextElement;
             
             // 부모가 변경되면 새 그룹 시작
-            if (lastParent != null && !lastParent.equals(currentParent)) {
+            if (lastParent != null && lastParent != currentParent) {
                 if (!currentGroup.isEmpty()) {
                     groups.add(new ArrayList<>(currentGroup));
                     currentGroup.clear();
@@ -402,80 +393,130 @@ public class HtmlTranslationService {
     }
     
     /**
-     * 최적화된 배치 번역 처리
-     * 여러 텍스트를 한 번에 번역하여 API 호출 횟수 대폭 감소
+     * 번역 입력 정리 + 번역 가능한 텍스트 노드 수집 (DOM 한 번 순회)
+     * - script, noscript, 스크립트 preload/modulepreload 링크, manifest 링크 제거 (하위 노드는 방문하지 않음)
+     * - 이벤트 핸들러 속성(on*)과 React 속성(data-reactroot, data-react-helmet) 제거
+     * - iframe은 다른 페이지를 로드하지 않도록 src 제거
+     * - 남은 텍스트 노드 중 번역할 노드를 문서 순서대로 수집
+     *   가장 가까운 문맥 단위 조상 요소를 스택으로 추적하여 노드마다 조상을 거슬러 올라가지 않음
      */
-    private void translateBatchOptimized(List<TranslatableText> batch, List<String> batchTexts, 
-                                         String targetLang, String sourceLang, 
-                                         int batchNumber, int totalBatches) {
-        int successCount = 0;
-        int failCount = 0;
-        
-        try {
-            // 여러 텍스트를 한 번에 번역 (DeepL API는 여러 텍스트를 지원)
-            List<String> translatedTexts = translationService.translateBatch(batchTexts, targetLang, sourceLang);
-            
-            // 번역 결과를 각 텍스트 노드에 매핑
-            for (int i = 0; i < batch.size() && i < translatedTexts.size(); i++) {
-                TranslatableText translatableText = batch.get(i);
-                String translated = translatedTexts.get(i);
-                
-                if (translated != null && !translated.trim().isEmpty() && 
-                    !translated.trim().equals(translatableText.originalText)) {
-                    translatableText.textNode.text(translated.trim());
-                    successCount++;
-                } else {
-                    log.warn("번역 결과가 원본과 동일하거나 비어있음: 원본='{}'", 
-                            translatableText.originalText.substring(0, Math.min(50, translatableText.originalText.length())));
-                    failCount++;
+    static class SanitizingCollector implements NodeFilter {
+
+        final List<TranslatableText> texts = new ArrayList<>();
+        private final List<String> removedAttributes = new ArrayList<>();
+        // 현재 위치를 감싸는 문맥 단위 요소들 (맨 위가 가장 가까운 요소)
+        private final Deque<Element> contextElements = new ArrayDeque<>();
+
+        @Override
+        public FilterResult head(Node node, int depth) {
+            if (node instanceof TextNode) {
+                collect((TextNode) node);
+                return FilterResult.CONTINUE;
+            }
+            if (!(node instanceof Element)) {
+                return FilterResult.CONTINUE;
+            }
+
+            Element element = (Element) node;
+            String tagName = element.normalName();
+            if (tagName.equals("script") || tagName.equals("noscript")
+                    || (tagName.equals("link") && isScriptOrManifestLink(element))) {
+                return FilterResult.REMOVE;
+            }
+
+            removedAttributes.clear();
+            for (Attribute attr : element.attributes()) {
+                String key = attr.getKey();
+                if (key.regionMatches(true, 0, "on", 0, 2)
+                        || key.equalsIgnoreCase("data-reactroot")
+                        || key.equalsIgnoreCase("data-react-helmet")) {
+                    removedAttributes.add(key);
                 }
             }
-            
-            // 번역 결과가 부족한 경우 (일부 실패)
-            if (translatedTexts.size() < batch.size()) {
-                log.warn("배치 {}: 일부 번역 실패 (요청: {}, 응답: {})", 
-                        batchNumber, batch.size(), translatedTexts.size());
-                failCount += (batch.size() - translatedTexts.size());
+            for (String key : removedAttributes) {
+                element.removeAttr(key);
             }
-            
-        } catch (Exception e) {
-            log.error("배치 {} 번역 실패: {}. 개별 번역으로 폴백", batchNumber, e.getMessage());
-            
-            // 배치 번역 실패 시 개별 번역으로 폴백 (하위 호환성)
-            for (TranslatableText translatableText : batch) {
-                try {
-                    String translated = translationService.translate(
-                            translatableText.originalText, 
-                            targetLang, 
-                            sourceLang
-                    );
-                    if (translated != null && !translated.trim().isEmpty()) {
-                        translatableText.textNode.text(translated.trim());
-                        successCount++;
-                    } else {
-                        failCount++;
-                    }
-                } catch (Exception ex) {
-                    log.warn("개별 번역 실패: {}", ex.getMessage());
-                    failCount++;
+
+            if (tagName.equals("iframe") && element.hasAttr("src")) {
+                element.removeAttr("src");
+                element.attr("data-disabled", "true");
+            }
+            if (CONTEXT_TAGS.contains(tagName)) {
+                contextElements.push(element);
+            }
+            return FilterResult.CONTINUE;
+        }
+
+        @Override
+        public FilterResult tail(Node node, int depth) {
+            if (node == contextElements.peek()) {
+                contextElements.pop();
+            }
+            return FilterResult.CONTINUE;
+        }
+
+        private boolean isScriptOrManifestLink(Element link) {
+            String rel = link.attr("rel");
+            return rel.equalsIgnoreCase("modulepreload")
+                    || rel.equalsIgnoreCase("manifest")
+                    || (rel.equalsIgnoreCase("preload") && link.attr("as").equalsIgnoreCase("script"));
+        }
+
+        private void collect(TextNode textNode) {
+            String text = textNode.text().trim();
+
+            // 빈 텍스트나 공백만 있는 경우 스킵
+            if (text.length() < 2) {
+                return;
+            }
+
+            // 부모 태그 확인
+            Node parentNode = textNode.parent();
+            if (parentNode instanceof Element) {
+                Element parent = (Element) parentNode;
+                if (TextSkipClassifier.isSkippedTag(parent)) {
+                    return;
                 }
             }
+
+            // 특정 패턴 스킵 (URL, 이메일, 숫자만 있는 경우 등)
+            if (TextSkipClassifier.shouldSkip(text)) {
+                return;
+            }
+
+            texts.add(new TranslatableText(textNode, text, contextElements.peek()));
         }
-        
-        log.info("배치 {} 완료: 성공 {}, 실패 {}", batchNumber, successCount, failCount);
     }
 
-
     /**
      * 번역 가능한 텍스트 노드를 나타내는 내부 클래스
      */
-    private static class TranslatableText {
+    static class TranslatableText {
         final TextNode textNode;
         final String originalText;
+        final Element contextElement; // 가장 가까운 문맥 단위 조상 요소 (없으면 null)
 
-        TranslatableText(TextNode textNode, String originalText) {
+        TranslatableText(TextNode textNode, String originalText, Element contextElement) {
             this.textNode = textNode;
             this.originalText = originalText;
+            this.contextElement = contextElement;
+        }
+    }
+
+    /**
+     * 함께 번역되는 문맥 그룹 (텍스트 노드들과 합쳐진 원문, 실제로 DeepL에 보내는 텍스트, 문맥 단위 요소)
+     */
+    private static class ContextGroup {
+        final List<TranslatableText> nodes;
+        final String fullText;
+        final String requestText;
+        final Element block;
+
+        ContextGroup(List<TranslatableText> nodes, String fullText, String requestText, Element block) {
+            this.nodes = nodes;
+            this.fullText = fullText;
+            this.requestText = requestText;
+            this.block = block;
         }
     }
 }
@@ -0,0 +1,138 @@
+package com.project.Transflow.translate.service;
+
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.LoadState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 페이지 준비 완료 대기
+ * 고정 시간 sleep 대신 브라우저 이벤트(load, network idle, DOM 변경 종료)를 기준으로 대기하고
+ * Cloudflare 등 검증 페이지가 떠 있는 동안에만 폴링
+ */
+@Slf4j
+@Component
+public class PageReadinessWaiter {
+
+    // 검증 페이지 감지 스크립트 (전체 HTML을 직렬화하지 않고 브라우저 안에서 바로 확인)
+    private static final String CHALLENGE_DETECT_SCRIPT =
+            "() => {" +
+            "  if (document.querySelector('#challenge-form, #cf-challenge-running, #challenge-running, " +
+            "      iframe[src*=\"challenges.cloudflare.com\"]')) return true;" +
+            "  const title = (document.title || '').toLowerCase();" +
+            "  const body = document.body ? (document.body.innerText || '').slice(0, 3000).toLowerCase() : '';" +
+            "  const text = title + ' ' + body;" +
+            "  return ['verify you are human', 'enable javascript and cookies', 'just a moment'," +
+            "          'checking your browser', 'ray id:'].some(m => text.includes(m));" +
+            "}";
+
+    // DOM 변경이 quietMs 동안 없거나 maxMs가 지나면 완료되는 스크립트
+    private static final String DOM_QUIET_SCRIPT =
+            "([quietMs, maxMs]) => new Promise(resolve => {" +
+            "  if (!document.documentElement) { resolve(false); return; }" +
+            "  let quietTimer;" +
+            "  const done = (quiet) => { observer.disconnect(); clearTimeout(quietTimer); clearTimeout(maxTimer); resolve(quiet); };" +
+            "  const observer = new MutationObserver(() => { clearTimeout(quietTimer); quietTimer = setTimeout(() => done(true), quietMs); });" +
+            "  observer.observe(document.documentElement, {childList: true, subtree: true, attributes: true, characterData: true});" +
+            "  quietTimer = setTimeout(() => done(true), quietMs);" +
+            "  const maxTimer = setTimeout(() => done(false), maxMs);" +
+            "})";
+
+    private final long maxWaitMs;
+    private final long networkIdleTimeoutMs;
+    private final long domQuietMs;
+    private final long domQuietMaxMs;
+    private final long challengePollMs;
+
+    public PageReadinessWaiter(
+            @Value("${crawler.readiness.max-wait-ms:30000}") long maxWaitMs,
+            @Value("${crawler.readiness.network-idle-timeout-ms:3000}") long networkIdleTimeoutMs,
+            @Value("${crawler.readiness.dom-quiet-ms:500}") long domQuietMs,
+            @Value("${crawler.readiness.dom-quiet-max-ms:3000}") long domQuietMaxMs,
+            @Value("${crawler.readiness.challenge-poll-ms:1000}") long challengePollMs) {
+        this.maxWaitMs = maxWaitMs;
+        this.networkIdleTimeoutMs = networkIdleTimeoutMs;
+        this.domQuietMs = domQuietMs;
+        this.domQuietMaxMs = domQuietMaxMs;
+        this.challengePollMs = challengePollMs;
+    }
+
+    /**
+     * 페이지가 준비될 때까지 대기 (최대 maxWaitMs)
+     * @return 대기 후에도 검증 페이지가 남아 있으면 true
+     */
+    public boolean waitUntilReady(Page page) {
+        long start = System.currentTimeMillis();
+        long deadline = start + maxWaitMs;
+
+        // 1. load 이벤트 대기
+        waitForLoadState(page, LoadState.LOAD, remaining(deadline));
+
+        // 2. 검증 페이지가 떠 있는 동안에만 폴링
+        boolean challenge = isChallengePage(page);
+        if (challenge) {
+            log.info("Cloudflare 검증 페이지 감지됨. 최대 {}ms 대기", remaining(deadline));
+            while (challenge && remaining(deadline) > 0) {
+                page.waitForTimeout(Math.min(challengePollMs, remaining(deadline)));
+                challenge = isChallengePage(page);
+            }
+            if (!challenge) {
+                // 검증 통과 후 실제 페이지로 이동하므로 다시 load 대기
+                waitForLoadState(page, LoadState.LOAD, remaining(deadline));
+            }
+        }
+
+        if (!challenge) {
+            // 3. 네트워크 요청 완료 대기 (계속 폴링하는 사이트도 있으므로 짧게)
+            waitForLoadState(page, LoadState.NETWORKIDLE, Math.min(networkIdleTimeoutMs, remaining(deadline)));
+
+            // 4. 클라이언트 렌더링이 끝날 때까지 DOM 변경이 잠잠해지기를 대기
+            waitForDomQuiet(page, Math.min(domQuietMaxMs, remaining(deadline)));
+        }
+
+        log.info("페이지 준비 완료 대기: {}ms (검증 페이지: {})", System.currentTimeMillis() - start, challenge);
+        return challenge;
+    }
+
+    /**
+     * 현재 페이지가 검증(챌린지) 페이지인지 확인
+     */
+    public boolean isChallengePage(Page page) {
+        try {
+            return Boolean.TRUE.equals(page.evaluate(CHALLENGE_DETECT_SCRIPT));
+        } catch (Exception e) {
+            // 검증 중 페이지가 이동하면 실행 컨텍스트가 사라질 수 있음
+            log.debug("검증 페이지 확인 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void waitForLoadState(Page page, LoadState state, long timeoutMs) {
+        if (timeoutMs <= 0) {
+            return;
+        }
+        try {
+            page.waitForLoadState(state, new Page.WaitForLoadStateOptions().setTimeout(timeoutMs));
+        } catch (Exception e) {
+            log.debug("{} 대기 시간 초과 ({}ms): {}", state, timeoutMs, e.getMessage());
+        }
+    }
+
+    private void waitForDomQuiet(Page page, long maxMs) {
+        if (maxMs <= 0) {
+            return;
+        }
+        try {
+            page.evaluate(DOM_QUIET_SCRIPT, List.of(domQuietMs, maxMs));
+        } catch (Exception e) {
+            log.debug("DOM 안정화 대기 실패: {}", e.getMessage());
+        }
+    }
+
+    private long remaining(long deadline) {
+        return Math.max(0, deadline - System.currentTimeMillis());
+    }
+}
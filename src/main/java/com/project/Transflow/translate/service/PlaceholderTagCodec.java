@@ -0,0 +1,102 @@
+package com.project.Transflow.translate.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 문맥 그룹의 텍스트 노드들을 DeepL XML 태그 처리용 문자열로 변환하고 번역 결과를 다시 노드별로 분리
+ * 노드마다 <x id="n">...</x> 자리표시 태그로 감싸 보내면 DeepL이 태그 위치를 번역문에 맞게 옮겨주므로
+ * 글자 수 비율로 자를 필요 없이 노드별 번역을 그대로 얻을 수 있음
+ */
+final class PlaceholderTagCodec {
+
+    static final String TAG_NAME = "x";
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("<x id=\"(\\d+)\">(.*?)</x>", Pattern.DOTALL);
+    private static final Pattern ANY_TAG = Pattern.compile("</?x[^>]*>");
+
+    private PlaceholderTagCodec() {
+    }
+
+    /**
+     * 노드 텍스트들을 자리표시 태그로 감싼 XML 문자열로 변환 (노드가 하나면 태그 없이 이스케이프만)
+     */
+    static String encode(List<String> texts) {
+        if (texts.size() == 1) {
+            return escape(texts.get(0));
+        }
+        StringBuilder encoded = new StringBuilder();
+        for (int i = 0; i < texts.size(); i++) {
+            if (i > 0) {
+                encoded.append(' ');
+            }
+            encoded.append("<x id=\"").append(i).append("\">")
+                    .append(escape(texts.get(i)))
+                    .append("</x>");
+        }
+        return encoded.toString();
+    }
+
+    /**
+     * 번역 결과를 노드별 텍스트로 분리
+     * @return 노드 순서대로의 번역문, 자리표시 태그가 누락/중복되어 노드와 맞출 수 없으면 null
+     */
+    static List<String> decode(String translated, int nodeCount) {
+        List<String> results = new ArrayList<>(nodeCount);
+        if (nodeCount == 1) {
+            results.add(unescape(translated).trim());
+            return results;
+        }
+        String[] segments = new String[nodeCount];
+        Matcher matcher = PLACEHOLDER.matcher(translated);
+        while (matcher.find()) {
+            int id = Integer.parseInt(matcher.group(1));
+            if (id >= nodeCount || segments[id] != null) {
+                return null;
+            }
+            segments[id] = unescape(matcher.group(2)).trim();
+        }
+        for (String segment : segments) {
+            if (segment == null) {
+                return null;
+            }
+            results.add(segment);
+        }
+        return results;
+    }
+
+    /**
+     * 자리표시 태그를 제거한 번역문 (노드와 맞출 수 없을 때 비율 분배용)
+     */
+    static String stripTags(String translated) {
+        return unescape(ANY_TAG.matcher(translated).replaceAll(""));
+    }
+
+    private static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length() + 16);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&': escaped.append("&amp;"); break;
+                case '<': escaped.append("&lt;"); break;
+                case '>': escaped.append("&gt;"); break;
+                case '"': escaped.append("&quot;"); break;
+                default: escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static String unescape(String text) {
+        if (text.indexOf('&') < 0) {
+            return text;
+        }
+        return text.replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&apos;", "'")
+                .replace("&amp;", "&");
+    }
+}
@@ -0,0 +1,115 @@
+package com.project.Transflow.translate.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 외부 스타일시트 공유 캐시 (절대 URL 기준)
+ * 같은 사이트의 여러 페이지를 크롤링할 때 공통 CSS를 한 번만 다운로드하도록 함
+ * 전체 크기(문자 수) 기준 LRU로 제거
+ */
+@Slf4j
+@Component
+public class StylesheetCache {
+
+    private final long maxChars;
+
+    // 접근 순서 기준 LinkedHashMap (가장 오래 사용되지 않은 항목이 맨 앞)
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalChars = 0;
+
+    // 메트릭
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong revalidatedCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+
+    public StylesheetCache(@Value("${crawler.css.cache-max-chars:20000000}") long maxChars) {
+        this.maxChars = maxChars;
+    }
+
+    public synchronized Entry get(String url) {
+        return entries.get(url);
+    }
+
+    public synchronized void put(String url, Entry entry) {
+        if (entry.css.length() > maxChars) {
+            return;
+        }
+        Entry previous = entries.put(url, entry);
+        if (previous != null) {
+            totalChars -= previous.css.length();
+        }
+        totalChars += entry.css.length();
+
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while (totalChars > maxChars && it.hasNext()) {
+            Map.Entry<String, Entry> eldest = it.next();
+            totalChars -= eldest.getValue().css.length();
+            it.remove();
+            evictedCount.incrementAndGet();
+        }
+    }
+
+    public synchronized void remove(String url) {
+        Entry removed = entries.remove(url);
+        if (removed != null) {
+            totalChars -= removed.css.length();
+        }
+    }
+
+    void recordHit() {
+        hitCount.incrementAndGet();
+    }
+
+    void recordRevalidated() {
+        revalidatedCount.incrementAndGet();
+    }
+
+    void recordMiss() {
+        missCount.incrementAndGet();
+    }
+
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("entries", entries.size());
+        stats.put("totalChars", totalChars);
+        stats.put("maxChars", maxChars);
+        stats.put("hitCount", hitCount.get());
+        stats.put("revalidatedCount", revalidatedCount.get());
+        stats.put("missCount", missCount.get());
+        stats.put("evictedCount", evictedCount.get());
+        return stats;
+    }
+
+    /**
+     * 캐시 항목 (CSS 본문 + 재검증용 헤더)
+     */
+    public static class Entry {
+        final String css;
+        final String etag;
+        final String lastModified;
+        volatile long expiresAt;
+
+        public Entry(String css, String etag, String lastModified, long expiresAt) {
+            this.css = css;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.expiresAt = expiresAt;
+        }
+
+        public String getCss() {
+            return css;
+        }
+
+        boolean isFresh(long now) {
+            return now < expiresAt;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.project.Transflow.translate.service;
+
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 페이지 로드 중 브라우저가 받은 스타일시트 응답을 가로채서 보관
+ * 브라우저가 이미 다운로드한 CSS를 그대로 사용하므로 별도 네트워크 요청이 필요 없음
+ * 크롤링 한 번(페이지 하나)에만 사용하며, 해당 페이지를 소유한 워커 스레드에서만 접근
+ */
+@Slf4j
+class StylesheetCapture {
+
+    // 요청 URL(리다이렉트 이전 URL 포함) -> 응답
+    private final Map<String, Response> responses = new LinkedHashMap<>();
+
+    void attach(Page page) {
+        page.onResponse(this::onResponse);
+    }
+
+    private void onResponse(Response response) {
+        try {
+            Request request = response.request();
+            if (!"stylesheet".equals(request.resourceType()) || response.status() != 200) {
+                return;
+            }
+            // 본문은 페이지 로드가 끝난 뒤 읽음 (이벤트 처리 중에는 URL만 기록)
+            responses.put(response.url(), response);
+            for (Request previous = request.redirectedFrom(); previous != null; previous = previous.redirectedFrom()) {
+                responses.put(previous.url(), response);
+            }
+        } catch (Exception e) {
+            log.debug("스타일시트 응답 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 캡처한 스타일시트 본문 조회
+     * @return CSS 본문, 캡처되지 않았거나 읽을 수 없으면 null
+     */
+    String getCss(String url) {
+        Response response = responses.get(url);
+        if (response == null) {
+            return null;
+        }
+        try {
+            return response.text();
+        } catch (Exception e) {
+            log.debug("스타일시트 본문 읽기 실패: {} - {}", url, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 캡처한 응답의 헤더 조회 (없으면 null)
+     */
+    String getHeader(String url, String name) {
+        Response response = responses.get(url);
+        if (response == null) {
+            return null;
+        }
+        try {
+            return response.headerValue(name);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    int size() {
+        return responses.size();
+    }
+}
@@ -0,0 +1,246 @@
+package com.project.Transflow.translate.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 외부 스타일시트 병렬 다운로드
+ * 여러 CSS 파일을 동시에 받되 호스트별 동시 연결 수를 제한하고,
+ * StylesheetCache와 Cache-Control / ETag / Last-Modified 헤더를 이용해 중복 다운로드를 방지
+ * 재검증에 실패하면(오류 응답, 네트워크 오류) 캐시에 있던 이전 CSS를 그대로 사용
+ */
+@Slf4j
+@Component
+public class StylesheetFetcher {
+
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36";
+    private static final Pattern MAX_AGE = Pattern.compile("max-age\\s*=\\s*(\\d+)");
+
+    private final StylesheetCache stylesheetCache;
+    private final HttpClient httpClient;
+    private final ExecutorService executor;
+    private final int perHostLimit;
+    private final long timeoutMs;
+    private final long defaultTtlMs;
+
+    // 호스트별 동시 연결 제한 (요청 중인 호스트만 보관, 사용하는 요청이 없으면 제거)
+    private final Map<String, HostPermit> hostPermits = new ConcurrentHashMap<>();
+
+    public StylesheetFetcher(
+            StylesheetCache stylesheetCache,
+            @Value("${crawler.css.max-concurrency:8}") int maxConcurrency,
+            @Value("${crawler.css.per-host-limit:4}") int perHostLimit,
+            @Value("${crawler.css.timeout-ms:10000}") long timeoutMs,
+            @Value("${crawler.css.default-ttl-seconds:600}") long defaultTtlSeconds) {
+        this.stylesheetCache = stylesheetCache;
+        this.perHostLimit = Math.max(1, perHostLimit);
+        this.timeoutMs = timeoutMs;
+        this.defaultTtlMs = TimeUnit.SECONDS.toMillis(defaultTtlSeconds);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, maxConcurrency), r -> {
+            Thread thread = new Thread(r, "css-fetcher-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(timeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    /**
+     * 여러 스타일시트를 병렬로 가져옴
+     * @param urls 절대 URL 목록
+     * @return 요청 순서를 유지한 URL -> CSS 맵 (실패한 URL은 제외)
+     */
+    public Map<String, String> fetchAll(List<String> urls) {
+        List<String> distinctUrls = new ArrayList<>(new LinkedHashSet<>(urls));
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (String url : distinctUrls) {
+            futures.add(CompletableFuture.supplyAsync(() -> fetch(url), executor));
+        }
+
+        Map<String, String> result = new LinkedHashMap<>();
+        for (int i = 0; i < distinctUrls.size(); i++) {
+            try {
+                String css = futures.get(i).get(timeoutMs * 2, TimeUnit.MILLISECONDS);
+                if (css != null && !css.isEmpty()) {
+                    result.put(distinctUrls.get(i), css);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.warn("CSS 다운로드 실패: {}", distinctUrls.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 스타일시트 하나를 가져옴 (캐시 우선, 만료되었으면 조건부 요청으로 재검증)
+     */
+    public String fetch(String url) {
+        long now = System.currentTimeMillis();
+        StylesheetCache.Entry cached = stylesheetCache.get(url);
+        if (cached != null && cached.isFresh(now)) {
+            stylesheetCache.recordHit();
+            return cached.css;
+        }
+
+        String host = hostOf(url);
+        HostPermit permit = acquireHost(host);
+        try {
+            permit.semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            releaseHost(host);
+            return cached != null ? cached.css : null;
+        }
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(Duration.ofMillis(timeoutMs))
+                    .header("User-Agent", USER_AGENT)
+                    .header("Accept", "text/css,*/*;q=0.1")
+                    .GET();
+            if (cached != null) {
+                if (cached.etag != null) {
+                    request.header("If-None-Match", cached.etag);
+                }
+                if (cached.lastModified != null) {
+                    request.header("If-Modified-Since", cached.lastModified);
+                }
+            }
+
+            HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            String cacheControl = response.headers().firstValue("Cache-Control").orElse("");
+            long expiresAt = computeExpiresAt(cacheControl, System.currentTimeMillis());
+
+            if (response.statusCode() == 304 && cached != null) {
+                stylesheetCache.recordRevalidated();
+                cached.expiresAt = expiresAt;
+                return cached.css;
+            }
+            if (response.statusCode() != 200) {
+                log.warn("CSS 다운로드 실패: {} (상태 코드: {}){}", url, response.statusCode(),
+                        cached != null ? " - 이전 CSS 사용" : "");
+                return cached != null ? cached.css : null;
+            }
+
+            stylesheetCache.recordMiss();
+            String css = response.body();
+            store(url, css,
+                    response.headers().firstValue("ETag").orElse(null),
+                    response.headers().firstValue("Last-Modified").orElse(null),
+                    cacheControl);
+            return css;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return cached != null ? cached.css : null;
+        } catch (Exception e) {
+            log.warn("CSS 다운로드 실패: {} - {}{}", url, e.getMessage(), cached != null ? " - 이전 CSS 사용" : "");
+            return cached != null ? cached.css : null;
+        } finally {
+            permit.semaphore.release();
+            releaseHost(host);
+        }
+    }
+
+    /**
+     * 호스트 허용량을 사용 등록 (없으면 생성)
+     */
+    private HostPermit acquireHost(String host) {
+        return hostPermits.compute(host, (key, permit) -> {
+            HostPermit result = permit != null ? permit : new HostPermit(perHostLimit);
+            result.users++;
+            return result;
+        });
+    }
+
+    /**
+     * 호스트 허용량 사용 해제 (사용하는 요청이 없으면 맵에서 제거)
+     */
+    private void releaseHost(String host) {
+        hostPermits.computeIfPresent(host, (key, permit) -> --permit.users == 0 ? null : permit);
+    }
+
+    /**
+     * 다른 경로(브라우저 네트워크 등)로 받은 스타일시트를 캐시에 저장
+     */
+    public void store(String url, String css, String etag, String lastModified, String cacheControl) {
+        String directives = cacheControl != null ? cacheControl.toLowerCase() : "";
+        if (css == null || directives.contains("no-store")) {
+            stylesheetCache.remove(url);
+            return;
+        }
+        stylesheetCache.put(url, new StylesheetCache.Entry(
+                css, etag, lastModified, computeExpiresAt(directives, System.currentTimeMillis())));
+    }
+
+    /**
+     * Cache-Control 헤더로 만료 시각 계산 (없으면 기본 TTL)
+     */
+    private long computeExpiresAt(String cacheControl, long now) {
+        String directives = cacheControl.toLowerCase();
+        if (directives.contains("no-cache")) {
+            return now; // 매번 재검증
+        }
+        Matcher matcher = MAX_AGE.matcher(directives);
+        if (matcher.find()) {
+            try {
+                return now + TimeUnit.SECONDS.toMillis(Long.parseLong(matcher.group(1)));
+            } catch (NumberFormatException e) {
+                return now + defaultTtlMs;
+            }
+        }
+        return now + defaultTtlMs;
+    }
+
+    int getTrackedHostCount() {
+        return hostPermits.size();
+    }
+
+    private String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host : url;
+        } catch (Exception e) {
+            return url;
+        }
+    }
+
+    /**
+     * 호스트별 동시 연결 허용량 (users는 hostPermits.compute 안에서만 변경)
+     */
+    private static final class HostPermit {
+        final Semaphore semaphore;
+        int users;
+
+        HostPermit(int permits) {
+            this.semaphore = new Semaphore(permits);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.project.Transflow.translate.service;
+
+import org.jsoup.nodes.Element;
+
+import java.util.Set;
+
+/**
+ * 번역하지 않을 텍스트 노드 판별
+ * 텍스트 노드마다 호출되므로 정규식 대신 문자를 한 번씩만 훑는 검사로 구현 (객체 할당 없음)
+ * 판별 기준은 기존 정규식과 동일
+ * - URL: ^https?://.*
+ * - 이메일: ^[\w-\.]+@([\w-]+\.)+[\w-]{2,4}$
+ * - 숫자만: ^\d+$
+ * - 공백/특수문자만: ^[\s\p{Punct}]+$
+ */
+final class TextSkipClassifier {
+
+    // 번역하지 않아야 할 태그들 (Element.normalName()은 이미 소문자)
+    private static final Set<String> SKIP_TAGS = Set.of(
+            "script", "style", "noscript", "code", "pre"
+    );
+
+    private TextSkipClassifier() {
+    }
+
+    /**
+     * 번역하지 않아야 할 태그인지 확인
+     */
+    static boolean isSkippedTag(Element element) {
+        return SKIP_TAGS.contains(element.normalName());
+    }
+
+    /**
+     * 번역하지 않아야 할 텍스트인지 확인 (앞뒤 공백이 제거된 텍스트)
+     */
+    static boolean shouldSkip(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        return isUrl(text) || isDigitsOnly(text) || isPunctuationOnly(text) || isEmail(text);
+    }
+
+    /**
+     * 정규식의 .은 줄바꿈 문자와 매칭되지 않으므로 줄바꿈이 있으면 URL로 보지 않음
+     */
+    private static boolean isUrl(String text) {
+        if (!text.startsWith("http://") && !text.startsWith("https://")) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (isLineTerminator(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigitsOnly(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPunctuationOnly(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!isWhitespace(c) && !isPunctuation(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 로컬 파트([\w.-]+) @ 라벨([\w-]+)이 점으로 2개 이상 이어지고 마지막 라벨은 2~4자
+     */
+    private static boolean isEmail(String text) {
+        int at = text.indexOf('@');
+        if (at <= 0) {
+            return false;
+        }
+        for (int i = 0; i < at; i++) {
+            char c = text.charAt(i);
+            if (!isWordChar(c) && c != '-' && c != '.') {
+                return false;
+            }
+        }
+
+        int labels = 0;
+        int labelLength = 0;
+        for (int i = at + 1; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '.') {
+                if (labelLength == 0) {
+                    return false;
+                }
+                labels++;
+                labelLength = 0;
+            } else if (isWordChar(c) || c == '-') {
+                labelLength++;
+            } else {
+                return false;
+            }
+        }
+        return labels >= 1 && labelLength >= 2 && labelLength <= 4;
+    }
+
+    // \w (ASCII)
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    // 정규식 .이 매칭하지 않는 줄바꿈 문자 (UNIX_LINES 아님)
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    // \s (ASCII)
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    // \p{Punct} (ASCII): !"#$%&'()*+,-./:;<=>?@[\]^_`{|}~
+    private static boolean isPunctuation(char c) {
+        return (c >= '!' && c <= '/') || (c >= ':' && c <= '@') || (c >= '[' && c <= '`') || (c >= '{' && c <= '~');
+    }
+}
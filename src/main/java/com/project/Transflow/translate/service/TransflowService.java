@@ -2,6 +2,7 @@ package com.project.Transflow.translate.service;
 
 
 import com.project.Transflow.translate.dto.HtmlTranslationRequest;
+import com.project.Transflow.translate.dto.HtmlTranslationResult;
 import com.project.Transflow.translate.dto.TranslationRequest;
 import com.project.Transflow.translate.dto.TranslationResponse;
 import lombok.RequiredArgsConstructor;
@@ -17,44 +18,54 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class TransflowService {
 
-    private final CrawlerService crawlerService;
+    private final CrawlCacheService crawlCacheService;
     private final HtmlTranslationService htmlTranslationService;
 
     public TranslationResponse translateWebPage(TranslationRequest request) {
+        return translateWebPage(request, TranslationProgressListener.NONE);
+    }
+
+    /**
+     * 웹페이지 번역 (진행 상황 전달)
+     * 크롤링 결과와 번역된 블록을 완료되는 대로 listener로 전달 (스트리밍 응답용)
+     */
+    public TranslationResponse translateWebPage(TranslationRequest request, TranslationProgressListener listener) {
         try {
             log.info("웹페이지 번역 프로세스 시작 - URL: {}", request.getUrl());
 
-            // 1. 웹페이지 크롤링 (HTML과 CSS 포함)
-            Map<String, String> crawlResult = crawlerService.crawlWebPageWithStyles(request.getUrl());
+            // 1. 웹페이지 크롤링 (HTML과 CSS 포함, 최근 크롤링 결과가 있고 원본이 그대로면 캐시 사용)
+            Map<String, String> crawlResult = crawlCacheService.getOrCrawl(
+                    request.getUrl(), request.getCrawlProfile());
             String originalHtml = crawlResult.get("html");
             String css = crawlResult.get("css");
+            listener.onCrawled(request.getUrl(), css);
 
             // 2. 번역이 필요한지 확인 (targetLang이 'NONE'이면 번역 건너뛰기)
             String translatedHtml = null; // 번역하지 않으면 null
             String translatedText = null;
+            String originalText;
             
             if (request.getTargetLang() != null && !request.getTargetLang().equalsIgnoreCase("NONE")) {
-                // HTML 구조 유지하며 번역
-                translatedHtml = htmlTranslationService.translateHtml(
+                // HTML 구조 유지하며 번역 (한 번 파싱한 DOM에서 번역 전/후 텍스트까지 추출)
+                HtmlTranslationResult result = htmlTranslationService.translateHtml(
                         originalHtml,
                         request.getTargetLang(),
-                        request.getSourceLang()
+                        request.getSourceLang(),
+                        listener
                 );
                 log.info("HTML 번역 완료");
-                
-                // 번역된 텍스트 추출
-                Document translatedDoc = Jsoup.parse(translatedHtml);
-                translatedDoc.select("script, style").remove();
-                translatedText = translatedDoc.body().text();
+                translatedHtml = result.getTranslatedHtml();
+                translatedText = result.getTranslatedText();
+                originalText = result.getOriginalText();
             } else {
                 log.info("번역 건너뛰기 (원본 HTML만 반환)");
+                listener.onOriginal(originalHtml, 0);
+                // 3. 원본 텍스트 추출 (하위 호환성을 위해)
+                Document originalDoc = Jsoup.parse(originalHtml);
+                originalDoc.select("script, style").remove();
+                originalText = originalDoc.body().text();
             }
 
-            // 3. 원본 텍스트 추출 (하위 호환성을 위해)
-            Document originalDoc = Jsoup.parse(originalHtml);
-            originalDoc.select("script, style").remove();
-            String originalText = originalDoc.body().text();
-
             // 4. 결과 반환
             return TranslationResponse.builder()
                     .originalUrl(request.getUrl())
@@ -88,28 +99,20 @@ public class TransflowService {
         try {
             log.info("HTML 직접 번역 시작 - HTML 길이: {}", request.getHtml().length());
             
-            // HTML 번역
-            String translatedHtml = htmlTranslationService.translateHtml(
+            // HTML 번역 (텍스트 추출도 같은 DOM에서 수행, 하위 호환성)
+            HtmlTranslationResult result = htmlTranslationService.translateHtml(
                     request.getHtml(),
                     request.getTargetLang(),
-                    request.getSourceLang()
+                    request.getSourceLang(),
+                    TranslationProgressListener.NONE
             );
             
-            // 텍스트 추출 (하위 호환성)
-            Document originalDoc = Jsoup.parse(request.getHtml());
-            originalDoc.select("script, style").remove();
-            String originalText = originalDoc.body().text();
-            
-            Document translatedDoc = Jsoup.parse(translatedHtml);
-            translatedDoc.select("script, style").remove();
-            String translatedText = translatedDoc.body().text();
-            
             return TranslationResponse.builder()
                     .originalUrl("direct-html")
                     .originalHtml(request.getHtml())
-                    .translatedHtml(translatedHtml)
-                    .originalText(originalText)
-                    .translatedText(translatedText)
+                    .translatedHtml(result.getTranslatedHtml())
+                    .originalText(result.getOriginalText())
+                    .translatedText(result.getTranslatedText())
                     .targetLang(request.getTargetLang())
                     .sourceLang(request.getSourceLang())
                     .success(true)
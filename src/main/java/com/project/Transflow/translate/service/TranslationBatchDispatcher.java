@@ -0,0 +1,80 @@
+package com.project.Transflow.translate.service;
+
+import com.project.Transflow.translate.dto.TagHandling;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * DeepL 배치 요청 동시 전송
+ * 여러 배치를 동시에 보내고(최대 동시 요청 수 제한), 실제 전송 속도는 DeepLRateLimiter가 조절
+ */
+@Slf4j
+@Component
+public class TranslationBatchDispatcher {
+
+    private final TranslationService translationService;
+    private final int concurrency;
+
+    public TranslationBatchDispatcher(
+            TranslationService translationService,
+            @Value("${deepl.dispatch.concurrency:4}") int concurrency) {
+        this.translationService = translationService;
+        this.concurrency = Math.max(1, concurrency);
+    }
+
+    /**
+     * 배치들을 동시에 번역하고 모두 끝날 때까지 대기
+     *
+     * @param batches 요청 단위로 나뉜 텍스트 목록
+     * @param tagHandling 태그 처리 방식 (모든 배치에 동일하게 적용)
+     * @param onCharactersSent 번역 메모리에 없어 실제로 DeepL로 보낸 텍스트 길이 (요청이 성공할 때마다, 요청 스레드에서 호출)
+     * @return 입력과 같은 순서의 번역 결과, 실패한 배치는 null
+     */
+    public List<List<String>> dispatch(List<List<String>> batches, String targetLang, String sourceLang,
+                                       TagHandling tagHandling, LongConsumer onCharactersSent) {
+        List<List<String>> results = new ArrayList<>(Collections.nCopies(batches.size(), null));
+        dispatchEach(batches, targetLang, sourceLang, tagHandling, onCharactersSent, results::set);
+        return results;
+    }
+
+    /**
+     * 배치들을 동시에 번역하고, 끝나는 순서대로 호출 스레드에서 결과를 전달
+     * 결과 처리(문서 수정 등)는 모두 호출 스레드에서 실행되므로 별도 동기화가 필요 없음
+     *
+     * @param onCharactersSent 번역 메모리에 없어 실제로 DeepL로 보낸 텍스트 길이 (해당 배치의 onBatch보다 먼저 호출)
+     * @param onBatch (배치 인덱스, 번역 결과) - 실패한 배치는 결과가 null
+     */
+    public void dispatchEach(List<List<String>> batches, String targetLang, String sourceLang, TagHandling tagHandling,
+                             LongConsumer onCharactersSent, BiConsumer<Integer, List<String>> onBatch) {
+        if (batches.isEmpty()) {
+            return;
+        }
+
+        Iterable<Tuple2<Integer, Optional<List<String>>>> completed = Flux.range(0, batches.size())
+                .flatMap(index -> translationService.translateBatchAsync(
+                                batches.get(index), targetLang, sourceLang, tagHandling, onCharactersSent)
+                        .collectList()
+                        .map(translated -> Tuples.of(index, Optional.of(translated)))
+                        .onErrorResume(e -> {
+                            log.error("배치 {} 번역 실패: {}", index + 1, e.getMessage());
+                            return Mono.just(Tuples.of(index, Optional.<List<String>>empty()));
+                        }), concurrency)
+                .toIterable();
+
+        for (Tuple2<Integer, Optional<List<String>>> result : completed) {
+            onBatch.accept(result.getT1(), result.getT2().orElse(null));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.project.Transflow.translate.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * DeepL 배치 요청 계획
+ * 번역할 텍스트들을 순서대로 묶어 한 요청에 들어갈 수 있는 만큼 담음
+ * DeepL 제한: 요청당 text 파라미터 최대 50개, 요청 본문 최대 128KiB
+ */
+@Component
+public class TranslationBatchPlanner {
+
+    // target_lang, source_lang 등 text 이외 파라미터 여유분
+    private static final int REQUEST_OVERHEAD_BYTES = 256;
+
+    private final int maxTextsPerRequest;
+    private final int maxRequestBytes;
+
+    public TranslationBatchPlanner(
+            @Value("${deepl.batch.max-texts:50}") int maxTextsPerRequest,
+            @Value("${deepl.batch.max-request-bytes:122880}") int maxRequestBytes) {
+        this.maxTextsPerRequest = Math.max(1, maxTextsPerRequest);
+        this.maxRequestBytes = Math.max(REQUEST_OVERHEAD_BYTES + 1, maxRequestBytes);
+    }
+
+    /**
+     * 항목들을 요청 단위로 나눔 (입력 순서 유지)
+     * 한 항목만으로 크기 제한을 넘으면 해당 항목만 단독 요청으로 배치
+     *
+     * @param items 번역할 항목
+     * @param textOf 항목에서 DeepL로 보낼 텍스트를 꺼내는 함수
+     * @return 요청별 항목 목록
+     */
+    public <T> List<List<T>> plan(List<T> items, Function<T, String> textOf) {
+        List<List<T>> batches = new ArrayList<>();
+        List<T> current = new ArrayList<>();
+        int currentBytes = REQUEST_OVERHEAD_BYTES;
+
+        for (T item : items) {
+            int itemBytes = encodedSize(textOf.apply(item));
+            if (!current.isEmpty()
+                    && (current.size() >= maxTextsPerRequest || currentBytes + itemBytes > maxRequestBytes)) {
+                batches.add(current);
+                current = new ArrayList<>();
+                currentBytes = REQUEST_OVERHEAD_BYTES;
+            }
+            current.add(item);
+            currentBytes += itemBytes;
+        }
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+        return batches;
+    }
+
+    /**
+     * form-urlencoded 본문에서 text 파라미터 하나가 차지하는 바이트 수 ("&text=" 포함)
+     */
+    private int encodedSize(String text) {
+        return "&text=".length() + URLEncoder.encode(text, StandardCharsets.UTF_8).length();
+    }
+}
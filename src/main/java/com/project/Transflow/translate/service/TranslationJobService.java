@@ -0,0 +1,469 @@
+package com.project.Transflow.translate.service;
+
+import com.project.Transflow.translate.dto.CrawlProfile;
+import com.project.Transflow.translate.dto.HtmlTranslationResult;
+import com.project.Transflow.translate.dto.TranslationJobResponse;
+import com.project.Transflow.translate.dto.TranslationRequest;
+import com.project.Transflow.translate.dto.TranslationResponse;
+import com.project.Transflow.translate.entity.TranslationJob;
+import com.project.Transflow.translate.repository.TranslationJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 웹페이지 번역 작업 (비동기)
+ * 요청 즉시 작업 ID를 반환하고, 제한된 워커 풀에서 크롤링 -> 번역 단계를 순서대로 실행
+ * 단계별 결과와 진행률은 translation_job 테이블에 저장되므로
+ * - 클라이언트 연결이 끊겨도 작업은 계속되고 결과는 나중에 조회 가능
+ * - 실패한 작업은 실패한 단계부터 다시 실행 (크롤링이 끝났으면 번역만 재시도)
+ * - 서버 재시작 시 끝나지 않은 작업을 다시 대기열에 넣음
+ *
+ * 애플리케이션 종료 시 크롤러 실행기(CrawlerExecutor)보다 먼저 멈춤
+ * (크롤러가 먼저 멈추면 대기 중이던 작업이 크롤링 요청을 거절당해 실패로 기록되므로)
+ */
+@Slf4j
+@Service
+public class TranslationJobService implements SmartLifecycle {
+
+    public static final String STATUS_QUEUED = "QUEUED";
+    public static final String STATUS_CRAWLING = "CRAWLING";
+    public static final String STATUS_TRANSLATING = "TRANSLATING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    public static final String STATUS_FAILED = "FAILED";
+
+    // 웹 서버가 요청을 그만 받은 뒤, CrawlerExecutor(DEFAULT_PHASE - 4096)보다 먼저 종료되도록 하는 phase
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 2048;
+
+    private static final String STAGE_CRAWL = "CRAWL";
+    private static final String STAGE_TRANSLATE = "TRANSLATE";
+
+    private final TranslationJobRepository translationJobRepository;
+    private final CrawlCacheService crawlCacheService;
+    private final HtmlTranslationService htmlTranslationService;
+    private final ThreadPoolExecutor executor;
+    private final long progressSaveIntervalMs;
+    private final long subscribeTimeoutMs;
+    private final long shutdownTimeoutMs;
+
+    private volatile boolean running = false;
+
+    // 작업 ID -> 진행 상황 구독자
+    private final Map<Long, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    // 메트릭
+    private final AtomicLong submittedCount = new AtomicLong();
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public TranslationJobService(
+            TranslationJobRepository translationJobRepository,
+            CrawlCacheService crawlCacheService,
+            HtmlTranslationService htmlTranslationService,
+            @Value("${translation.job.workers:2}") int workers,
+            @Value("${translation.job.queue-capacity:100}") int queueCapacity,
+            @Value("${translation.job.progress-save-interval-ms:1000}") long progressSaveIntervalMs,
+            @Value("${translation.job.subscribe-timeout-ms:600000}") long subscribeTimeoutMs,
+            @Value("${translation.job.shutdown-timeout-ms:30000}") long shutdownTimeoutMs) {
+        this.translationJobRepository = translationJobRepository;
+        this.crawlCacheService = crawlCacheService;
+        this.htmlTranslationService = htmlTranslationService;
+        this.progressSaveIntervalMs = progressSaveIntervalMs;
+        this.subscribeTimeoutMs = subscribeTimeoutMs;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        int workerCount = Math.max(1, workers);
+        this.executor = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), r -> {
+            Thread thread = new Thread(r, "translation-job-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 번역 작업 등록
+     * @return 등록된 작업 (대기열이 가득 찼으면 FAILED 상태)
+     */
+    public TranslationJobResponse submit(TranslationRequest request) {
+        if (request.getUrl() == null || request.getUrl().isBlank()) {
+            throw new IllegalArgumentException("URL은 필수입니다.");
+        }
+        TranslationJob job = translationJobRepository.save(TranslationJob.builder()
+                .url(request.getUrl())
+                .targetLang(request.getTargetLang())
+                .sourceLang(request.getSourceLang())
+                .crawlProfile((request.getCrawlProfile() != null ? request.getCrawlProfile() : CrawlProfile.FULL).name())
+                .build());
+        submittedCount.incrementAndGet();
+        log.info("번역 작업 등록 - ID: {}, URL: {}", job.getId(), job.getUrl());
+        return toResponse(enqueue(job));
+    }
+
+    /**
+     * 실패한 작업을 실패한 단계부터 다시 실행
+     */
+    public TranslationJobResponse retry(Long jobId) {
+        TranslationJob job = findJob(jobId);
+        if (!STATUS_FAILED.equals(job.getStatus())) {
+            throw new IllegalStateException("실패한 작업만 재시도할 수 있습니다. (현재 상태: " + job.getStatus() + ")");
+        }
+        job.setStatus(STATUS_QUEUED);
+        job.setErrorMessage(null);
+        job = translationJobRepository.save(job);
+        log.info("번역 작업 재시도 - ID: {}, 단계: {}", job.getId(), job.getFailedStage());
+        return toResponse(enqueue(job));
+    }
+
+    public TranslationJobResponse getJob(Long jobId) {
+        return toResponse(findJob(jobId));
+    }
+
+    /**
+     * 완료된 작업의 번역 결과 (POST /api/translate/webpage 응답과 같은 형식)
+     * 본문 텍스트는 작업 완료 시 저장된 값을 사용 (텍스트 컬럼이 없던 이전 작업만 HTML에서 추출)
+     * @throws IllegalStateException 아직 완료되지 않은 경우
+     */
+    public TranslationResponse getResult(Long jobId) {
+        TranslationJob job = findJob(jobId);
+        if (!STATUS_COMPLETED.equals(job.getStatus())) {
+            throw new IllegalStateException("작업이 아직 완료되지 않았습니다. (현재 상태: " + job.getStatus() + ")");
+        }
+        return TranslationResponse.builder()
+                .originalUrl(job.getUrl())
+                .originalHtml(job.getOriginalHtml())
+                .translatedHtml(job.getTranslatedHtml())
+                .css(job.getCss())
+                .originalText(job.getOriginalText() != null ? job.getOriginalText() : extractText(job.getOriginalHtml()))
+                .translatedText(job.getTranslatedText() != null || job.getTranslatedHtml() == null
+                        ? job.getTranslatedText() : extractText(job.getTranslatedHtml()))
+                .sourceLang(job.getSourceLang())
+                .targetLang(job.getTargetLang())
+                .success(true)
+                .build();
+    }
+
+    /**
+     * 작업 진행 상황 구독 (SSE)
+     * 진행률이 저장될 때마다 progress 이벤트, 끝나면 completed 또는 failed 이벤트를 보내고 종료
+     * 구독자를 먼저 등록한 뒤 상태를 읽으므로, 그 사이에 작업이 끝나도 종료 이벤트를 놓치지 않음
+     * (작업 상태는 저장된 뒤에 publish되므로 등록 후 읽은 상태나 publish 중 하나에는 반드시 반영됨)
+     */
+    public SseEmitter subscribe(Long jobId) {
+        SseEmitter emitter = new SseEmitter(subscribeTimeoutMs);
+        subscribers.compute(jobId, (id, emitters) -> {
+            List<SseEmitter> list = emitters != null ? emitters : new CopyOnWriteArrayList<>();
+            list.add(emitter);
+            return list;
+        });
+        Runnable remove = () -> unsubscribe(jobId, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        TranslationJob job;
+        try {
+            job = findJob(jobId);
+        } catch (RuntimeException e) {
+            unsubscribe(jobId, emitter);
+            throw e;
+        }
+        sendQuietly(emitter, job);
+        if (isFinished(job)) {
+            unsubscribe(jobId, emitter);
+            emitter.complete();
+        }
+        return emitter;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("workers", executor.getMaximumPoolSize());
+        stats.put("activeJobs", executor.getActiveCount());
+        stats.put("queuedJobs", executor.getQueue().size());
+        stats.put("queueRemainingCapacity", executor.getQueue().remainingCapacity());
+        stats.put("submittedCount", submittedCount.get());
+        stats.put("completedCount", completedCount.get());
+        stats.put("failedCount", failedCount.get());
+        stats.put("rejectedCount", rejectedCount.get());
+        return stats;
+    }
+
+    /**
+     * 서버 재시작 전에 끝나지 않은 작업을 다시 대기열에 넣음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        List<TranslationJob> unfinished = translationJobRepository.findByStatusInOrderByIdAsc(
+                List.of(STATUS_QUEUED, STATUS_CRAWLING, STATUS_TRANSLATING));
+        if (unfinished.isEmpty()) {
+            return;
+        }
+        log.info("끝나지 않은 번역 작업 {}개를 다시 실행합니다.", unfinished.size());
+        for (TranslationJob job : unfinished) {
+            job.setStatus(STATUS_QUEUED);
+            enqueue(translationJobRepository.save(job));
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        shutdown();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * 새 작업은 더 받지 않고, 실행 중인 작업이 끝나기를 일정 시간 기다린 뒤 중단
+     * 대기열에 남은 작업(QUEUED)과 중단된 작업(CRAWLING, TRANSLATING)은 상태를 그대로 두므로 다음 시작 시 다시 실행됨
+     */
+    private void shutdown() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        executor.shutdown();
+        executor.getQueue().clear();
+        try {
+            if (!executor.awaitTermination(shutdownTimeoutMs, TimeUnit.MILLISECONDS)) {
+                log.warn("번역 작업이 {}ms 안에 끝나지 않아 중단합니다. 다음 시작 시 다시 실행됩니다.", shutdownTimeoutMs);
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private TranslationJob enqueue(TranslationJob job) {
+        Long jobId = job.getId();
+        try {
+            executor.execute(() -> run(jobId));
+            return job;
+        } catch (RejectedExecutionException e) {
+            if (executor.isShutdown()) {
+                // 종료 중에 등록된 작업은 QUEUED로 두고 다음 시작 시 실행
+                log.info("서버 종료 중이라 다음 시작 시 실행합니다 - ID: {}", jobId);
+                return job;
+            }
+            rejectedCount.incrementAndGet();
+            log.warn("번역 작업 대기열이 가득 찼습니다 - ID: {}", jobId);
+            job.setStatus(STATUS_FAILED);
+            job.setErrorMessage("번역 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            return translationJobRepository.save(job);
+        }
+    }
+
+    private void run(Long jobId) {
+        TranslationJob job = translationJobRepository.findById(jobId).orElse(null);
+        if (job == null || !STATUS_QUEUED.equals(job.getStatus())) {
+            return;
+        }
+        job.setAttempts(job.getAttempts() + 1);
+        job.setFailedStage(null);
+
+        String stage = STAGE_CRAWL;
+        ProgressRecorder recorder = null;
+        try {
+            // 1. 크롤링 (이전 실행에서 끝났으면 생략)
+            if (job.getOriginalHtml() == null) {
+                job = updateStatus(job, STATUS_CRAWLING);
+                Map<String, String> crawlResult = crawlCacheService.getOrCrawl(
+                        job.getUrl(), CrawlProfile.valueOf(job.getCrawlProfile()));
+                job.setOriginalHtml(crawlResult.get("html"));
+                job.setCss(crawlResult.get("css"));
+                job = translationJobRepository.save(job);
+            }
+
+            // 2. 번역 (targetLang이 'NONE'이면 건너뛰기)
+            stage = STAGE_TRANSLATE;
+            if (job.getTargetLang() != null && !job.getTargetLang().equalsIgnoreCase("NONE")) {
+                job = updateStatus(job, STATUS_TRANSLATING);
+                recorder = new ProgressRecorder(job);
+                HtmlTranslationResult result = htmlTranslationService.translateHtml(
+                        job.getOriginalHtml(), job.getTargetLang(), job.getSourceLang(), recorder);
+                job = recorder.job;
+                job.setTranslatedHtml(result.getTranslatedHtml());
+                job.setOriginalText(result.getOriginalText());
+                job.setTranslatedText(result.getTranslatedText());
+            } else {
+                job.setOriginalText(extractText(job.getOriginalHtml()));
+            }
+
+            job.setStatus(STATUS_COMPLETED);
+            job.setCompletedAt(LocalDateTime.now());
+            job = translationJobRepository.save(job);
+            completedCount.incrementAndGet();
+            log.info("번역 작업 완료 - ID: {}", jobId);
+        } catch (Exception e) {
+            if (executor.isShutdown()) {
+                // 종료 중 중단된 작업은 실패로 기록하지 않음 (CRAWLING/TRANSLATING 상태로 남아 다음 시작 시 다시 실행)
+                log.info("서버 종료로 번역 작업 중단 - ID: {}, 단계: {}", jobId, stage);
+                return;
+            }
+            log.error("번역 작업 실패 - ID: {}, 단계: {}", jobId, stage, e);
+            if (recorder != null) {
+                // 진행률이 기록된 최신 상태에서 이어서 저장
+                job = recorder.job;
+            }
+            job.setStatus(STATUS_FAILED);
+            job.setFailedStage(stage);
+            job.setErrorMessage(truncate(e.getMessage()));
+            job = translationJobRepository.save(job);
+            failedCount.incrementAndGet();
+        }
+        publish(job);
+    }
+
+    private TranslationJob updateStatus(TranslationJob job, String status) {
+        job.setStatus(status);
+        TranslationJob saved = translationJobRepository.save(job);
+        publish(saved);
+        return saved;
+    }
+
+    private void publish(TranslationJob job) {
+        List<SseEmitter> emitters = subscribers.get(job.getId());
+        if (emitters == null) {
+            return;
+        }
+        boolean finished = isFinished(job);
+        for (SseEmitter emitter : emitters) {
+            sendQuietly(emitter, job);
+            if (finished) {
+                emitter.complete();
+            }
+        }
+        if (finished) {
+            subscribers.remove(job.getId());
+        }
+    }
+
+    /**
+     * 구독자 제거 (남은 구독자가 없으면 작업 항목도 제거)
+     */
+    private void unsubscribe(Long jobId, SseEmitter emitter) {
+        subscribers.computeIfPresent(jobId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    private void sendQuietly(SseEmitter emitter, TranslationJob job) {
+        String eventName = STATUS_COMPLETED.equals(job.getStatus()) ? "completed"
+                : STATUS_FAILED.equals(job.getStatus()) ? "failed" : "progress";
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(toResponse(job)));
+        } catch (Exception e) {
+            log.debug("번역 작업 이벤트 전송 실패 (연결 종료): {}", e.getMessage());
+        }
+    }
+
+    private boolean isFinished(TranslationJob job) {
+        return STATUS_COMPLETED.equals(job.getStatus()) || STATUS_FAILED.equals(job.getStatus());
+    }
+
+    private TranslationJob findJob(Long jobId) {
+        return translationJobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("번역 작업을 찾을 수 없습니다. ID: " + jobId));
+    }
+
+    private String extractText(String html) {
+        if (html == null) {
+            return null;
+        }
+        Document doc = Jsoup.parse(html);
+        doc.select("script, style").remove();
+        return doc.body().text();
+    }
+
+    private String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > 2000 ? message.substring(0, 2000) : message;
+    }
+
+    private TranslationJobResponse toResponse(TranslationJob job) {
+        return TranslationJobResponse.builder()
+                .jobId(job.getId())
+                .url(job.getUrl())
+                .targetLang(job.getTargetLang())
+                .sourceLang(job.getSourceLang())
+                .status(job.getStatus())
+                .failedStage(job.getFailedStage())
+                .errorMessage(job.getErrorMessage())
+                .segmentsDone(job.getSegmentsDone())
+                .segmentsTotal(job.getSegmentsTotal())
+                .charactersSent(job.getCharactersSent())
+                .attempts(job.getAttempts())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+
+    /**
+     * 번역 진행률을 작업에 기록 (저장은 일정 간격으로만 수행)
+     * 진행률 컬럼만 UPDATE하고, 작업 전체는 번역이 끝난 뒤 한 번만 저장
+     */
+    private class ProgressRecorder implements TranslationProgressListener {
+
+        private TranslationJob job;
+        private long lastSavedAt = 0;
+
+        ProgressRecorder(TranslationJob job) {
+            this.job = job;
+        }
+
+        @Override
+        public void onProgress(int segmentsDone, int segmentsTotal, long charactersSent) {
+            job.setSegmentsDone(segmentsDone);
+            job.setSegmentsTotal(segmentsTotal);
+            job.setCharactersSent(charactersSent);
+            long now = System.currentTimeMillis();
+            if (segmentsDone < segmentsTotal && now - lastSavedAt < progressSaveIntervalMs) {
+                return;
+            }
+            lastSavedAt = now;
+            job.setUpdatedAt(LocalDateTime.now());
+            translationJobRepository.updateProgress(
+                    job.getId(), segmentsDone, segmentsTotal, charactersSent, job.getUpdatedAt());
+            publish(job);
+        }
+    }
+}
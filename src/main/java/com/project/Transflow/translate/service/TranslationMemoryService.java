@@ -0,0 +1,261 @@
+package com.project.Transflow.translate.service;
+
+import com.project.Transflow.translate.dto.TagHandling;
+import com.project.Transflow.translate.entity.TranslationMemory;
+import com.project.Transflow.translate.repository.TranslationMemoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * 번역 메모리 (세그먼트 단위 번역 결과 재사용)
+ * 네비게이션, 푸터, 쿠키 배너처럼 페이지마다 반복되는 문장은 한 번만 DeepL로 보내고 이후에는 저장된 번역을 사용
+ * 키: (정규화된 원문, 원본 언어, 대상 언어, 용어집 버전, 태그 처리 방식)
+ * 1차: 프로세스 내 LRU, 2차: translation_memory 테이블
+ * DB 조회/저장은 boundedElastic 스케줄러에서 실행하여 호출 스레드를 막지 않음
+ * DB 항목은 ttl-days가 지나면 주기적으로 삭제 (용어집 버전이 바뀌어 더 이상 조회되지 않는 항목 포함)
+ */
+@Slf4j
+@Service
+public class TranslationMemoryService {
+
+    // 용어집을 사용하지 않은 번역의 용어집 버전
+    public static final String NO_GLOSSARY = "none";
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final TranslationMemoryRepository translationMemoryRepository;
+    private final boolean enabled;
+    private final int maxEntries;
+    private final int ttlDays;
+
+    // 접근 순서 기준 LinkedHashMap (가장 오래 사용되지 않은 항목이 맨 앞)
+    private final LinkedHashMap<String, String> memory;
+
+    // 메트릭
+    private final AtomicLong lookupCount = new AtomicLong();
+    private final AtomicLong memoryHitCount = new AtomicLong();
+    private final AtomicLong databaseHitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong charactersSaved = new AtomicLong();
+    private final AtomicLong charactersSent = new AtomicLong();
+
+    public TranslationMemoryService(
+            TranslationMemoryRepository translationMemoryRepository,
+            @Value("${translation.memory.enabled:true}") boolean enabled,
+            @Value("${translation.memory.max-entries:20000}") int maxEntries,
+            @Value("${translation.memory.ttl-days:90}") int ttlDays) {
+        this.translationMemoryRepository = translationMemoryRepository;
+        this.enabled = enabled;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.ttlDays = ttlDays;
+        this.memory = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > TranslationMemoryService.this.maxEntries;
+            }
+        };
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 저장된 번역 조회 (LRU -> DB 순서)
+     *
+     * @param texts 원문 목록
+     * @return 원문 -> 번역 (저장된 번역이 있는 원문만 포함)
+     */
+    public Mono<Map<String, String>> lookup(Collection<String> texts, String sourceLang, String targetLang,
+                                            String glossaryVersion, TagHandling tagHandling) {
+        if (!enabled || texts.isEmpty()) {
+            return Mono.just(new HashMap<>());
+        }
+        Map<String, String> found = new HashMap<>();
+        // 메모리에 없는 원문의 키 -> 원문들 (정규화 결과가 같은 원문이 여러 개일 수 있음)
+        Map<String, List<String>> pending = new HashMap<>();
+        synchronized (this) {
+            for (String text : texts) {
+                String key = memoryKey(text, sourceLang, targetLang, glossaryVersion, tagHandling);
+                String translated = memory.get(key);
+                if (translated != null) {
+                    found.put(text, translated);
+                } else {
+                    pending.computeIfAbsent(key, k -> new ArrayList<>()).add(text);
+                }
+            }
+        }
+        memoryHitCount.addAndGet(found.size());
+        if (pending.isEmpty()) {
+            return Mono.just(found);
+        }
+
+        return Mono.fromCallable(() -> translationMemoryRepository.findByMemoryKeyIn(pending.keySet()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(entries -> {
+                    int databaseHits = 0;
+                    for (TranslationMemory entry : entries) {
+                        List<String> sources = pending.get(entry.getMemoryKey());
+                        if (sources == null) {
+                            continue;
+                        }
+                        putInMemory(entry.getMemoryKey(), entry.getTranslatedText());
+                        for (String source : sources) {
+                            found.put(source, entry.getTranslatedText());
+                            databaseHits++;
+                        }
+                    }
+                    databaseHitCount.addAndGet(databaseHits);
+                    return found;
+                })
+                .onErrorResume(e -> {
+                    log.warn("번역 메모리 조회 실패: {}", e.getMessage());
+                    return Mono.just(found);
+                });
+    }
+
+    /**
+     * 조회 결과 기록 (메트릭)
+     *
+     * @param hitTexts 저장된 번역을 사용한 원문 (DeepL로 보내지 않음)
+     * @param sentTexts DeepL로 보낸 원문
+     */
+    public void recordUsage(Collection<String> hitTexts, Collection<String> sentTexts) {
+        lookupCount.addAndGet(hitTexts.size() + sentTexts.size());
+        missCount.addAndGet(sentTexts.size());
+        hitTexts.forEach(text -> charactersSaved.addAndGet(text.length()));
+        sentTexts.forEach(text -> charactersSent.addAndGet(text.length()));
+    }
+
+    /**
+     * 새 번역 저장 (LRU에 즉시 반영, DB는 비동기 저장)
+     *
+     * @param translations 원문 -> 번역
+     */
+    public void store(Map<String, String> translations, String sourceLang, String targetLang,
+                      String glossaryVersion, TagHandling tagHandling) {
+        if (!enabled || translations.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, TranslationMemory> entries = new LinkedHashMap<>();
+        translations.forEach((source, translated) -> {
+            if (translated == null) {
+                return;
+            }
+            String key = memoryKey(source, sourceLang, targetLang, glossaryVersion, tagHandling);
+            putInMemory(key, translated);
+            entries.putIfAbsent(key, TranslationMemory.builder()
+                    .memoryKey(key)
+                    .sourceLang(normalizeSourceLang(sourceLang))
+                    .targetLang(targetLang.toUpperCase())
+                    .glossaryVersion(glossaryVersion)
+                    .tagHandling(tagHandling.name())
+                    .sourceText(normalize(source))
+                    .translatedText(translated)
+                    .createdAt(now)
+                    .build());
+        });
+
+        Mono.fromRunnable(() -> entries.values().forEach(this::saveQuietly))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe();
+    }
+
+    /**
+     * 저장한 지 ttl-days가 지난 번역 메모리 삭제 (0 이하이면 삭제하지 않음)
+     * 프로세스 내 LRU는 크기 제한으로 관리되므로 DB 항목만 정리
+     */
+    @Scheduled(cron = "${translation.memory.purge-cron:0 30 4 * * *}")
+    public void purgeExpired() {
+        if (ttlDays <= 0) {
+            return;
+        }
+        try {
+            int deleted = translationMemoryRepository.deleteByCreatedAtBefore(LocalDateTime.now().minusDays(ttlDays));
+            log.info("오래된 번역 메모리 {}개 삭제 ({}일 경과)", deleted, ttlDays);
+        } catch (Exception e) {
+            log.warn("번역 메모리 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        long lookups = lookupCount.get();
+        long hits = lookups - missCount.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        synchronized (this) {
+            stats.put("memoryEntries", memory.size());
+        }
+        stats.put("maxEntries", maxEntries);
+        stats.put("lookupCount", lookups);
+        stats.put("memoryHitCount", memoryHitCount.get());
+        stats.put("databaseHitCount", databaseHitCount.get());
+        stats.put("missCount", missCount.get());
+        stats.put("hitRatio", lookups == 0 ? 0.0 : Math.round(hits * 10000.0 / lookups) / 10000.0);
+        stats.put("charactersSaved", charactersSaved.get());
+        stats.put("charactersSent", charactersSent.get());
+        return stats;
+    }
+
+    private synchronized void putInMemory(String key, String translated) {
+        memory.put(key, translated);
+    }
+
+    private void saveQuietly(TranslationMemory entry) {
+        try {
+            translationMemoryRepository.save(entry);
+        } catch (Exception e) {
+            // 다른 요청이 같은 세그먼트를 먼저 저장한 경우 등 - 저장 실패는 번역에 영향 없음
+            log.debug("번역 메모리 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 공백 차이(줄바꿈, 연속 공백)는 같은 문장으로 취급
+     */
+    static String normalize(String text) {
+        return WHITESPACE.matcher(text).replaceAll(" ").trim();
+    }
+
+    private static String normalizeSourceLang(String sourceLang) {
+        if (sourceLang == null || sourceLang.isEmpty() || sourceLang.equalsIgnoreCase("auto")) {
+            return "AUTO";
+        }
+        return sourceLang.toUpperCase();
+    }
+
+    private static String memoryKey(String text, String sourceLang, String targetLang,
+                                    String glossaryVersion, TagHandling tagHandling) {
+        String raw = normalizeSourceLang(sourceLang) + "|" + targetLang.toUpperCase() + "|" + glossaryVersion
+                + "|" + tagHandling.name() + "|" + normalize(text);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(raw.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.project.Transflow.translate.service;
+
+/**
+ * 웹페이지 번역 진행 상황 수신 (스트리밍 응답, 번역 작업 진행률 기록용)
+ * 모든 콜백은 번역을 수행하는 스레드에서 순서대로 호출됨
+ */
+public interface TranslationProgressListener {
+
+    TranslationProgressListener NONE = new TranslationProgressListener() {
+    };
+
+    /**
+     * 크롤링 완료
+     */
+    default void onCrawled(String originalUrl, String css) {
+    }
+
+    /**
+     * 번역 시작 직전의 원본 HTML (스크립트 제거 후, 번역 블록마다 data-tf-block 속성 부여)
+     * 번역할 텍스트가 없으면 블록 없이, 번역하지 않는 요청(targetLang NONE)이면 크롤링된 HTML 그대로 전달
+     * @param blockCount 번역될 블록 수
+     */
+    default void onOriginal(String html, int blockCount) {
+    }
+
+    /**
+     * 블록 번역 완료
+     * @param blockId 원본 HTML의 data-tf-block 값
+     * @param html 번역된 블록의 내부 HTML
+     */
+    default void onBlockTranslated(String blockId, String html) {
+    }
+
+    /**
+     * 번역 진행률 (번역 시작 시와 배치가 끝날 때마다 호출)
+     * @param segmentsDone 번역이 반영된 문맥 그룹 수
+     * @param segmentsTotal 전체 문맥 그룹 수
+     * @param charactersSent 지금까지 DeepL 요청에 담긴 텍스트 길이 (번역 메모리에서 가져온 텍스트 제외)
+     */
+    default void onProgress(int segmentsDone, int segmentsTotal, long charactersSent) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.project.Transflow.translate.service;
 
 import com.project.Transflow.translate.dto.DeepLResponse;
+import com.project.Transflow.translate.dto.TagHandling;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
@@ -9,21 +10,57 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongConsumer;
 
+/**
+ * DeepL 번역 API 클라이언트
+ * 요청/재시도/타임아웃을 모두 Reactor 체인으로 처리하여 대기 중에 스레드를 점유하지 않음
+ * 동기 메서드(translate, translateBatch)는 비동기 메서드의 결과를 기다리는 어댑터
+ * 모든 요청(재시도 포함)은 공유 속도 제한기(DeepLRateLimiter)를 거쳐 전송
+ * 번역 메모리(TranslationMemoryService)에 있는 세그먼트는 DeepL로 보내지 않음
+ * 언어 쌍에 용어 사전이 있으면 DeepL 용어집(glossary_id)을 붙여 용어를 번역 한 번에 적용
+ * 용어집이 DeepL에 없다는 오류가 나면 용어집 캐시를 버리고 새로 조회한 용어집(없으면 용어집 없이)으로 한 번 더 요청
+ */
 @Slf4j
 @Service
 public class TranslationService {
 
+    private static final int MAX_RETRIES = 3;
+    private static final Duration RETRY_BASE_DELAY = Duration.ofSeconds(1);
+    // DeepL 무료 플랜: 최대 50,000자 제한
+    private static final int MAX_TEXT_LENGTH = 50000;
+
     private final WebClient webClient;
     private final String apiKey;
+    private final Duration requestTimeout;
+    private final DeepLRateLimiter rateLimiter;
+    private final TranslationMemoryService translationMemory;
+    private final DeepLGlossaryService glossaryService;
 
     public TranslationService(
+            DeepLRateLimiter rateLimiter,
+            TranslationMemoryService translationMemory,
+            DeepLGlossaryService glossaryService,
             @Value("${deepl.api.url}") String apiUrl,
-            @Value("${deepl.api.key}") String apiKey) {
+            @Value("${deepl.api.key}") String apiKey,
+            @Value("${deepl.api.timeout-ms:300000}") long timeoutMs) {
+        this.rateLimiter = rateLimiter;
+        this.translationMemory = translationMemory;
+        this.glossaryService = glossaryService;
         this.apiKey = apiKey;
+        this.requestTimeout = Duration.ofMillis(timeoutMs);
         this.webClient = WebClient.builder()
                 .baseUrl(apiUrl)
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024)) // 10MB
@@ -31,235 +68,295 @@ public class TranslationService {
     }
 
     public String translate(String text, String targetLang, String sourceLang) {
-        return translateWithRetry(text, targetLang, sourceLang, 3); // 최대 3번 재시도
+        return translateAsync(text, targetLang, sourceLang).block();
     }
-    
+
     /**
      * 여러 텍스트를 한 번에 번역 (배치 번역)
      * API 호출 횟수를 대폭 줄여서 속도 향상
+     * 빈 텍스트(null 포함)는 제외하고 나머지의 번역문만 순서대로 반환 (유효한 텍스트가 없으면 빈 리스트)
      */
     public List<String> translateBatch(List<String> texts, String targetLang, String sourceLang) {
         if (texts == null || texts.isEmpty()) {
             return new ArrayList<>();
         }
-        
-        return translateBatchWithRetry(texts, targetLang, sourceLang, 3);
+        List<String> validTexts = new ArrayList<>();
+        for (String text : texts) {
+            if (isTranslatable(text)) {
+                validTexts.add(text);
+            }
+        }
+        if (validTexts.isEmpty()) {
+            log.warn("번역할 유효한 텍스트가 없습니다.");
+            return new ArrayList<>();
+        }
+        List<String> translated = translateBatchAsync(validTexts, targetLang, sourceLang).collectList().block();
+        return translated != null ? translated : new ArrayList<>();
     }
-    
-    private List<String> translateBatchWithRetry(List<String> texts, String targetLang, String sourceLang, int maxRetries) {
-        int retryCount = 0;
-        long baseDelay = 1000;
-        int validTextCount = 0; // 변수를 try 블록 밖으로 이동
-        
-        while (retryCount <= maxRetries) {
-            try {
-                // DeepL API는 여러 텍스트를 한 번에 번역 가능
-                MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
-                
-                // 각 텍스트를 별도의 text 파라미터로 추가 (빈 텍스트 필터링)
-                validTextCount = 0; // 초기화
-                for (String text : texts) {
-                    if (text != null && !text.trim().isEmpty()) {
-                        // DeepL 무료 플랜: 최대 50,000자 제한
-                        if (text.length() > 50000) {
-                            log.warn("텍스트가 너무 깁니다 ({}자). 첫 50,000자만 번역합니다.", text.length());
-                            text = text.substring(0, 50000);
+
+    /**
+     * 텍스트 하나를 비동기로 번역
+     * 빈 텍스트는 API를 호출하지 않고 원본을 그대로 반환
+     */
+    public Mono<String> translateAsync(String text, String targetLang, String sourceLang) {
+        if (text == null || text.trim().isEmpty()) {
+            log.warn("빈 텍스트는 번역할 수 없습니다.");
+            return Mono.justOrEmpty(text);
+        }
+        List<String> texts = new ArrayList<>();
+        texts.add(text);
+        return translateBatchAsync(texts, targetLang, sourceLang).next();
+    }
+
+    /**
+     * 여러 텍스트를 한 번의 API 호출로 비동기 번역
+     * 결과는 입력과 같은 순서/개수로 방출되며, 빈 텍스트는 API로 보내지 않고 원본 그대로 방출
+     * (Flux는 null을 방출할 수 없으므로 null 항목은 빈 문자열로 방출)
+     * 번역 메모리에 있는 텍스트와 중복 텍스트는 DeepL로 보내지 않음
+     */
+    public Flux<String> translateBatchAsync(List<String> texts, String targetLang, String sourceLang) {
+        return translateBatchAsync(texts, targetLang, sourceLang, TagHandling.NONE);
+    }
+
+    /**
+     * 태그 처리 방식을 지정하여 비동기 배치 번역
+     * XML이면 텍스트 안의 태그는 번역하지 않고 번역문에서 알맞은 위치로 옮겨짐 (텍스트는 XML 이스케이프 필요)
+     */
+    public Flux<String> translateBatchAsync(List<String> texts, String targetLang, String sourceLang, TagHandling tagHandling) {
+        return translateBatchAsync(texts, targetLang, sourceLang, tagHandling, sent -> {
+        });
+    }
+
+    /**
+     * 태그 처리 방식을 지정하여 비동기 배치 번역 (DeepL 사용량 전달)
+     *
+     * @param onCharactersSent 번역 메모리에 없어 실제로 DeepL로 보낸 텍스트 길이 (요청이 성공했을 때, 결과 방출 전에 호출)
+     */
+    public Flux<String> translateBatchAsync(List<String> texts, String targetLang, String sourceLang,
+                                            TagHandling tagHandling, LongConsumer onCharactersSent) {
+        if (texts == null || texts.isEmpty()) {
+            return Flux.empty();
+        }
+        List<String> validTexts = new ArrayList<>();
+        for (String text : texts) {
+            if (isTranslatable(text)) {
+                validTexts.add(truncate(text));
+            }
+        }
+        if (validTexts.isEmpty()) {
+            log.warn("번역할 유효한 텍스트가 없습니다.");
+            List<String> untouched = new ArrayList<>(texts.size());
+            for (String text : texts) {
+                untouched.add(text != null ? text : "");
+            }
+            return Flux.fromIterable(untouched);
+        }
+
+        return glossaryService.resolve(sourceLang, targetLang)
+                .flatMap(glossary -> translateWithMemory(validTexts, targetLang, sourceLang, tagHandling, glossary, onCharactersSent)
+                        .onErrorResume(GlossaryNotFoundException.class, e -> retryWithFreshGlossary(
+                                validTexts, targetLang, sourceLang, tagHandling, glossary, onCharactersSent)))
+                .flatMapMany(translations -> {
+                    List<String> results = new ArrayList<>(texts.size());
+                    int next = 0;
+                    for (String text : texts) {
+                        if (isTranslatable(text)) {
+                            results.add(translations.get(validTexts.get(next++)));
+                        } else {
+                            results.add(text != null ? text : "");
                         }
-                        formData.add("text", text);
-                        validTextCount++;
                     }
-                }
-                
-                // 유효한 텍스트가 없으면 빈 리스트 반환
-                if (validTextCount == 0) {
-                    log.warn("번역할 유효한 텍스트가 없습니다.");
-                    return new ArrayList<>();
-                }
-                
-                formData.add("target_lang", targetLang.toUpperCase());
-                if (sourceLang != null && !sourceLang.isEmpty() && !sourceLang.equalsIgnoreCase("auto")) {
-                    formData.add("source_lang", sourceLang.toUpperCase());
-                }
+                    return Flux.fromIterable(results);
+                });
+    }
+
+    /**
+     * 번역 메모리 조회 후 없는 텍스트만 DeepL로 번역
+     * 번역 메모리 키에 용어집 버전이 포함되어 용어가 바뀌면 이전 번역을 재사용하지 않음
+     *
+     * @return 원문 -> 번역
+     */
+    private Mono<Map<String, String>> translateWithMemory(List<String> validTexts, String targetLang, String sourceLang,
+                                                          TagHandling tagHandling, DeepLGlossaryService.Glossary glossary,
+                                                          LongConsumer onCharactersSent) {
+        String glossaryVersion = glossary.getVersion();
+        return translationMemory.lookup(validTexts, sourceLang, targetLang, glossaryVersion, tagHandling)
+                .flatMap(remembered -> {
+                    // 번역 메모리에 없는 텍스트만 (중복 제거 후) DeepL로 전송
+                    List<String> misses = new ArrayList<>(new LinkedHashSet<>(validTexts));
+                    misses.removeIf(remembered::containsKey);
+                    List<String> hits = new ArrayList<>(validTexts);
+                    hits.removeIf(text -> !remembered.containsKey(text));
+                    translationMemory.recordUsage(hits, misses);
+                    if (misses.isEmpty()) {
+                        return Mono.just(remembered);
+                    }
+                    return requestTranslations(misses, targetLang, sourceLang, tagHandling, glossary.getId())
+                            .map(translated -> {
+                                long charactersSent = 0;
+                                for (String miss : misses) {
+                                    charactersSent += miss.length();
+                                }
+                                onCharactersSent.accept(charactersSent);
+                                Map<String, String> fresh = new HashMap<>();
+                                for (int i = 0; i < misses.size(); i++) {
+                                    fresh.put(misses.get(i), translated.get(i));
+                                }
+                                translationMemory.store(fresh, sourceLang, targetLang, glossaryVersion, tagHandling);
+                                Map<String, String> all = new HashMap<>(remembered);
+                                all.putAll(fresh);
+                                return all;
+                            });
+                });
+    }
+
+    /**
+     * 용어집을 찾을 수 없어 실패한 요청을 한 번 더 번역
+     * 다른 인스턴스가 용어집을 새 버전으로 바꾸고 이전 버전을 삭제한 경우 등
+     * 새로 동기화한 용어집이 여전히 같은 ID면 용어집 없이 번역
+     */
+    private Mono<Map<String, String>> retryWithFreshGlossary(List<String> validTexts, String targetLang, String sourceLang,
+                                                             TagHandling tagHandling, DeepLGlossaryService.Glossary missing,
+                                                             LongConsumer onCharactersSent) {
+        glossaryService.invalidate(sourceLang, targetLang, missing.getId());
+        return glossaryService.resolve(sourceLang, targetLang)
+                .map(fresh -> missing.getId().equals(fresh.getId()) ? DeepLGlossaryService.Glossary.NONE : fresh)
+                .flatMap(fresh -> {
+                    log.warn("DeepL 용어집을 찾을 수 없어 다시 번역 - {} -> {}",
+                            missing.getId(), fresh.getId() != null ? fresh.getId() : "용어집 없음");
+                    return translateWithMemory(validTexts, targetLang, sourceLang, tagHandling, fresh, onCharactersSent);
+                });
+    }
 
-                DeepLResponse response = webClient.post()
+    /**
+     * DeepL API 호출 (429는 지수 백오프로 재시도, 시도마다 타임아웃 적용)
+     */
+    private Mono<List<String>> requestTranslations(List<String> texts, String targetLang, String sourceLang,
+                                                   TagHandling tagHandling, String glossaryId) {
+        // DeepL API는 form data를 사용하며, 각 텍스트를 별도의 text 파라미터로 추가
+        MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
+        for (String text : texts) {
+            formData.add("text", text);
+        }
+        formData.add("target_lang", targetLang.toUpperCase());
+        if (sourceLang != null && !sourceLang.isEmpty() && !sourceLang.equalsIgnoreCase("auto")) {
+            formData.add("source_lang", sourceLang.toUpperCase());
+            if (glossaryId != null) {
+                formData.add("glossary_id", glossaryId);
+            }
+        }
+        if (tagHandling.getParameter() != null) {
+            formData.add("tag_handling", tagHandling.getParameter());
+            // 자리표시 태그 때문에 문장이 나뉘지 않도록 함
+            formData.add("non_splitting_tags", PlaceholderTagCodec.TAG_NAME);
+        }
+
+        // 재시도할 때마다 속도 제한기에서 새로 순번을 받음
+        return rateLimiter.acquire()
+                .then(Mono.defer(() -> webClient.post()
                         .header(HttpHeaders.AUTHORIZATION, "DeepL-Auth-Key " + apiKey)
                         .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                         .bodyValue(formData)
                         .retrieve()
-                        .onStatus(status -> status.value() == 429, clientResponse -> {
-                            return clientResponse.createException();
-                        })
                         .bodyToMono(DeepLResponse.class)
-                        .block(Duration.ofMinutes(5));
-
-                if (response != null && response.getTranslations() != null && !response.getTranslations().isEmpty()) {
-                    List<String> translatedTexts = new ArrayList<>();
-                    for (com.project.Transflow.translate.dto.DeepLResponse.Translation translation : response.getTranslations()) {
+                        .timeout(requestTimeout)))
+                .doOnSuccess(response -> rateLimiter.onSuccess())
+                .doOnError(e -> {
+                    if (isRateLimited(e)) {
+                        rateLimiter.onRateLimited();
+                    }
+                })
+                .retryWhen(Retry.backoff(MAX_RETRIES, RETRY_BASE_DELAY)
+                        .jitter(0)
+                        .filter(this::isRateLimited)
+                        .doBeforeRetry(signal -> log.warn("DeepL API Rate Limit (429) - 재시도 ({}/{})",
+                                signal.totalRetries() + 1, MAX_RETRIES))
+                        .onRetryExhaustedThrow((spec, signal) -> {
+                            log.error("DeepL API Rate Limit - 최대 재시도 횟수 초과");
+                            return new RuntimeException("DeepL API Rate Limit에 걸렸습니다. 잠시 후 다시 시도해주세요.");
+                        }))
+                .map(response -> {
+                    if (response.getTranslations() == null || response.getTranslations().size() != texts.size()) {
+                        throw new RuntimeException("번역 결과가 비어있습니다.");
+                    }
+                    List<String> translatedTexts = new ArrayList<>(texts.size());
+                    for (DeepLResponse.Translation translation : response.getTranslations()) {
                         translatedTexts.add(translation.getText());
                     }
                     return translatedTexts;
-                }
+                })
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("번역 결과가 비어있습니다.")))
+                .onErrorMap(e -> glossaryId != null && isGlossaryNotFound(e),
+                        e -> new GlossaryNotFoundException("DeepL 용어집을 찾을 수 없습니다: " + glossaryId))
+                .onErrorMap(e -> toTranslationException(e, targetLang, sourceLang, texts));
+    }
 
-                throw new RuntimeException("번역 결과가 비어있습니다.");
+    private static boolean isTranslatable(String text) {
+        return text != null && !text.trim().isEmpty();
+    }
 
-            } catch (org.springframework.web.reactive.function.client.WebClientResponseException e) {
-                if (e.getStatusCode() != null && e.getStatusCode().value() == 429) {
-                    if (retryCount < maxRetries) {
-                        long delay = baseDelay * (1L << retryCount);
-                        log.warn("DeepL API Rate Limit (429) - {}초 대기 후 재시도 ({}/{})",
-                                delay / 1000, retryCount + 1, maxRetries);
-                        try {
-                            Thread.sleep(delay);
-                        } catch (InterruptedException ie) {
-                            Thread.currentThread().interrupt();
-                            throw new RuntimeException("재시도 대기 중 인터럽트 발생", ie);
-                        }
-                        retryCount++;
-                        continue;
-                    } else {
-                        log.error("DeepL API Rate Limit - 최대 재시도 횟수 초과");
-                        throw new RuntimeException("DeepL API Rate Limit에 걸렸습니다. 잠시 후 다시 시도해주세요.");
-                    }
-                } else if (e.getStatusCode() != null && e.getStatusCode().value() == 400) {
-                    // 400 Bad Request: 요청 형식 오류
-                    String responseBody = e.getResponseBodyAsString();
-                    log.error("DeepL API 400 Bad Request (배치) - 요청 형식 오류: {}", responseBody);
-                    log.error("요청 내용 - targetLang: {}, sourceLang: {}, 텍스트 개수: {}", 
-                            targetLang, sourceLang, validTextCount);
-                    throw new RuntimeException("DeepL API 요청 형식 오류 (400): " + (responseBody != null ? responseBody : e.getMessage()));
-                } else {
-                    log.error("번역 API 호출 실패: {} - 상태 코드: {}", e.getMessage(), 
-                            e.getStatusCode() != null ? e.getStatusCode().value() : "unknown");
-                    throw new RuntimeException("번역 중 오류 발생: " + e.getMessage());
-                }
-            } catch (Exception e) {
-                String errorMsg = e.getMessage();
-                if (errorMsg != null && errorMsg.contains("429")) {
-                    if (retryCount < maxRetries) {
-                        long delay = baseDelay * (1L << retryCount);
-                        log.warn("DeepL API Rate Limit (429) - {}초 대기 후 재시도 ({}/{})",
-                                delay / 1000, retryCount + 1, maxRetries);
-                        try {
-                            Thread.sleep(delay);
-                        } catch (InterruptedException ie) {
-                            Thread.currentThread().interrupt();
-                            throw new RuntimeException("재시도 대기 중 인터럽트 발생", ie);
-                        }
-                        retryCount++;
-                        continue;
-                    }
-                }
-                log.error("배치 번역 실패", e);
-                throw new RuntimeException("배치 번역 중 오류 발생: " + e.getMessage());
-            }
+    private boolean isRateLimited(Throwable e) {
+        if (e instanceof WebClientResponseException) {
+            return ((WebClientResponseException) e).getRawStatusCode() == 429;
         }
-
-        throw new RuntimeException("배치 번역 실패: 최대 재시도 횟수 초과");
+        return e.getMessage() != null && e.getMessage().contains("429");
     }
-    
-    private String translateWithRetry(String text, String targetLang, String sourceLang, int maxRetries) {
-        int retryCount = 0;
-        long baseDelay = 1000; // 1초부터 시작
-        
-        // 빈 텍스트 체크
-        if (text == null || text.trim().isEmpty()) {
-            log.warn("빈 텍스트는 번역할 수 없습니다.");
-            return text; // 원본 반환
+
+    /**
+     * 요청에 붙인 용어집이 DeepL에 없다는 응답인지 확인 (404, 또는 용어집 관련 400)
+     */
+    private static boolean isGlossaryNotFound(Throwable e) {
+        if (!(e instanceof WebClientResponseException)) {
+            return false;
         }
-        
-        // DeepL 무료 플랜: 최대 50,000자 제한
-        String textToTranslate = text;
-        if (textToTranslate.length() > 50000) {
-            log.warn("텍스트가 너무 깁니다 ({}자). 첫 50,000자만 번역합니다.", textToTranslate.length());
-            textToTranslate = textToTranslate.substring(0, 50000);
+        WebClientResponseException responseException = (WebClientResponseException) e;
+        if (responseException.getRawStatusCode() == 404) {
+            return true;
         }
-        
-        while (retryCount <= maxRetries) {
-            try {
-
-            // DeepL API는 form data를 사용
-            MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
-                formData.add("text", textToTranslate);
-            formData.add("target_lang", targetLang.toUpperCase());
-                if (sourceLang != null && !sourceLang.isEmpty() && !sourceLang.equalsIgnoreCase("auto")) {
-                formData.add("source_lang", sourceLang.toUpperCase());
-            }
-
-            DeepLResponse response = webClient.post()
-                    .header(HttpHeaders.AUTHORIZATION, "DeepL-Auth-Key " + apiKey)
-                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                    .bodyValue(formData)
-                    .retrieve()
-                        .onStatus(status -> status.value() == 429, clientResponse -> {
-                            // 429 에러는 재시도 가능
-                            return clientResponse.createException();
-                        })
-                    .bodyToMono(DeepLResponse.class)
-                        .block(Duration.ofMinutes(5)); // 5분 타임아웃
+        String body = responseException.getResponseBodyAsString();
+        return responseException.getRawStatusCode() == 400 && body != null && body.toLowerCase().contains("glossary");
+    }
 
-            if (response != null && response.getTranslations() != null && !response.getTranslations().isEmpty()) {
-                String translatedText = response.getTranslations().get(0).getText();
-                return translatedText;
+    private Throwable toTranslationException(Throwable e, String targetLang, String sourceLang, List<String> texts) {
+        if (e instanceof WebClientResponseException) {
+            WebClientResponseException responseException = (WebClientResponseException) e;
+            if (responseException.getRawStatusCode() == 400) {
+                // 400 Bad Request: 요청 형식 오류
+                String responseBody = responseException.getResponseBodyAsString();
+                log.error("DeepL API 400 Bad Request - 요청 형식 오류: {}", responseBody);
+                log.error("요청 내용 - targetLang: {}, sourceLang: {}, 텍스트 개수: {}",
+                        targetLang, sourceLang, texts.size());
+                return new RuntimeException("DeepL API 요청 형식 오류 (400): " + (responseBody != null ? responseBody : e.getMessage()));
             }
+            log.error("번역 API 호출 실패: {} - 상태 코드: {}", e.getMessage(), responseException.getRawStatusCode());
+            return new RuntimeException("번역 중 오류 발생: " + e.getMessage());
+        }
+        if (e instanceof TimeoutException) {
+            log.error("번역 API 응답 시간 초과 ({}ms)", requestTimeout.toMillis());
+            return new RuntimeException("번역 API 응답 시간이 초과되었습니다.");
+        }
+        if (e instanceof RuntimeException && e.getCause() == null) {
+            // 이미 변환된 예외 (Rate Limit 재시도 초과, 빈 결과 등)
+            return e;
+        }
+        log.error("번역 실패", e);
+        return new RuntimeException("번역 중 오류 발생: " + e.getMessage());
+    }
 
-            throw new RuntimeException("번역 결과가 비어있습니다.");
-
-            } catch (org.springframework.web.reactive.function.client.WebClientResponseException e) {
-                // 429 Too Many Requests 에러 처리
-                if (e.getStatusCode() != null && e.getStatusCode().value() == 429) {
-                    if (retryCount < maxRetries) {
-                        // Exponential backoff: 1초, 2초, 4초...
-                        long delay = baseDelay * (1L << retryCount);
-                        log.warn("DeepL API Rate Limit (429) - {}초 대기 후 재시도 ({}/{})", 
-                                delay / 1000, retryCount + 1, maxRetries);
-                        try {
-                            Thread.sleep(delay);
-                        } catch (InterruptedException ie) {
-                            Thread.currentThread().interrupt();
-                            throw new RuntimeException("재시도 대기 중 인터럽트 발생", ie);
-                        }
-                        retryCount++;
-                        continue;
-                    } else {
-                        log.error("DeepL API Rate Limit - 최대 재시도 횟수 초과");
-                        throw new RuntimeException("DeepL API Rate Limit에 걸렸습니다. 잠시 후 다시 시도해주세요.");
-                    }
-                } else if (e.getStatusCode() != null && e.getStatusCode().value() == 400) {
-                    // 400 Bad Request: 요청 형식 오류
-                    String responseBody = e.getResponseBodyAsString();
-                    log.error("DeepL API 400 Bad Request - 요청 형식 오류: {}", responseBody);
-                    log.error("요청 내용 - targetLang: {}, sourceLang: {}, 텍스트 길이: {}", 
-                            targetLang, sourceLang, textToTranslate.length());
-                    throw new RuntimeException("DeepL API 요청 형식 오류 (400): " + (responseBody != null ? responseBody : e.getMessage()));
-                } else {
-                    // 다른 HTTP 에러
-                    log.error("번역 API 호출 실패: {} - 상태 코드: {}", e.getMessage(), 
-                            e.getStatusCode() != null ? e.getStatusCode().value() : "unknown");
-                    throw new RuntimeException("번역 중 오류 발생: " + e.getMessage());
-                }
-        } catch (Exception e) {
-                String errorMsg = e.getMessage();
-                if (errorMsg != null && errorMsg.contains("429")) {
-                    // 429 에러인데 WebClientResponseException이 아닌 경우
-                    if (retryCount < maxRetries) {
-                        long delay = baseDelay * (1L << retryCount);
-                        log.warn("DeepL API Rate Limit (429) - {}초 대기 후 재시도 ({}/{})", 
-                                delay / 1000, retryCount + 1, maxRetries);
-                        try {
-                            Thread.sleep(delay);
-                        } catch (InterruptedException ie) {
-                            Thread.currentThread().interrupt();
-                            throw new RuntimeException("재시도 대기 중 인터럽트 발생", ie);
-                        }
-                        retryCount++;
-                        continue;
-                    }
-                }
-            log.error("번역 실패", e);
-            throw new RuntimeException("번역 중 오류 발생: " + e.getMessage());
+    private String truncate(String text) {
+        if (text.length() > MAX_TEXT_LENGTH) {
+            log.warn("텍스트가 너무 깁니다 ({}자). 첫 50,000자만 번역합니다.", text.length());
+            return text.substring(0, MAX_TEXT_LENGTH);
         }
+        return text;
+    }
+
+    /**
+     * 요청에 붙인 용어집이 DeepL에 없음 (한 번 더 시도하기 위해 구분)
+     */
+    private static final class GlossaryNotFoundException extends RuntimeException {
+        GlossaryNotFoundException(String message) {
+            super(message);
         }
-        
-        throw new RuntimeException("번역 실패: 최대 재시도 횟수 초과");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,136 @@
+package com.project.Transflow.translate.service;
+
+import com.project.Transflow.translate.dto.TranslationRequest;
+import com.project.Transflow.translate.dto.TranslationResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 웹페이지 번역 스트리밍 (Server-Sent Events)
+ * 번역이 끝날 때까지 응답을 붙잡고 있지 않고, 진행되는 대로 이벤트를 보냄
+ * - original: 크롤링된 원본 HTML (블록마다 data-tf-block 속성) + CSS
+ * - block: 번역이 끝난 블록 (data-tf-block 값 + 번역된 내부 HTML)
+ * - complete: 최종 결과 (POST /webpage 응답과 동일)
+ * - error: 실패 시 결과 (success=false)
+ * 대기 중인 스트림 수는 queue-capacity로 제한하고, 넘으면 바로 오류로 응답
+ */
+@Slf4j
+@Service
+public class TranslationStreamService {
+
+    private final TransflowService transflowService;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+
+    public TranslationStreamService(
+            TransflowService transflowService,
+            @Value("${translation.stream.workers:4}") int workers,
+            @Value("${translation.stream.queue-capacity:20}") int queueCapacity,
+            @Value("${translation.stream.timeout-ms:600000}") long timeoutMs) {
+        this.transflowService = transflowService;
+        this.timeoutMs = timeoutMs;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        int workerCount = Math.max(1, workers);
+        this.executor = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), r -> {
+            Thread thread = new Thread(r, "translation-stream-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 웹페이지 번역을 시작하고 진행 이벤트를 보낼 SseEmitter 반환
+     */
+    public SseEmitter translateWebPage(TranslationRequest request) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        EventSender sender = new EventSender(emitter);
+        emitter.onTimeout(() -> {
+            log.warn("번역 스트리밍 시간 초과 - URL: {}", request.getUrl());
+            sender.close();
+        });
+        emitter.onCompletion(sender::close);
+
+        try {
+            executor.execute(() -> {
+                TranslationResponse response = transflowService.translateWebPage(request, sender);
+                sender.send(response.isSuccess() ? "complete" : "error", response);
+                emitter.complete();
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("번역 스트리밍 대기열이 가득 찼습니다 - URL: {}", request.getUrl());
+            emitter.completeWithError(new RuntimeException("번역 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+        }
+        return emitter;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 번역 진행 상황을 SSE 이벤트로 변환
+     * 클라이언트 연결이 끊기면 이후 이벤트는 보내지 않음 (번역 결과는 번역 메모리에 남음)
+     */
+    private static class EventSender implements TranslationProgressListener {
+
+        private final SseEmitter emitter;
+        private volatile boolean closed = false;
+        private String css;
+
+        EventSender(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void onCrawled(String originalUrl, String css) {
+            this.css = css;
+        }
+
+        @Override
+        public void onOriginal(String html, int blockCount) {
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("html", html);
+            data.put("css", css);
+            data.put("blockCount", blockCount);
+            send("original", data);
+        }
+
+        @Override
+        public void onBlockTranslated(String blockId, String html) {
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("id", blockId);
+            data.put("html", html);
+            send("block", data);
+        }
+
+        void send(String name, Object data) {
+            if (closed) {
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event().name(name).data(data));
+            } catch (Exception e) {
+                log.debug("번역 스트리밍 이벤트 전송 실패 (연결 종료): {}", e.getMessage());
+                closed = true;
+            }
+        }
+
+        void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.project.Transflow.review.service;
+
+import com.project.Transflow.document.entity.Document;
+import com.project.Transflow.document.entity.DocumentVersion;
+import com.project.Transflow.document.repository.DocumentVersionRepository;
+import com.project.Transflow.review.dto.GlossaryCheckResponse;
+import com.project.Transflow.term.entity.TermDictionary;
+import com.project.Transflow.term.service.TermMatchService;
+import com.project.Transflow.term.service.TermMatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class GlossaryConsistencyCheckerTest {
+
+    private static final Long DOCUMENT_ID = 1L;
+    private static final Long SOURCE_VERSION_ID = 10L;
+    private static final Long TRANSLATED_VERSION_ID = 11L;
+
+    @Mock
+    private DocumentVersionRepository documentVersionRepository;
+
+    @Mock
+    private TermMatchService termMatchService;
+
+    private GlossaryConsistencyChecker checker;
+    private Document document;
+
+    @BeforeEach
+    void setUp() {
+        checker = new GlossaryConsistencyChecker(documentVersionRepository, termMatchService);
+        document = Document.builder().id(DOCUMENT_ID).sourceLang("EN").targetLang("KO").build();
+
+        List<TermDictionary> terms = List.of(
+                TermDictionary.builder().id(100L).sourceTerm("Spring Boot").targetTerm("스프링 부트")
+                        .sourceLang("EN").targetLang("KO").build(),
+                TermDictionary.builder().id(101L).sourceTerm("bean").targetTerm("빈")
+                        .sourceLang("EN").targetLang("KO").build()
+        );
+        when(termMatchService.getMatcher("EN", "KO", TermMatcher.Side.SOURCE))
+                .thenReturn(TermMatcher.build(terms, TermMatcher.Side.SOURCE));
+        when(termMatchService.getMatcher("EN", "KO", TermMatcher.Side.TARGET))
+                .thenReturn(TermMatcher.build(terms, TermMatcher.Side.TARGET));
+    }
+
+    private void givenVersions(String sourceHtml, String translatedVersionType, String translatedHtml) {
+        DocumentVersion source = DocumentVersion.builder().id(SOURCE_VERSION_ID).document(document)
+                .versionNumber(0).versionType("ORIGINAL").content(sourceHtml).build();
+        DocumentVersion translated = DocumentVersion.builder().id(TRANSLATED_VERSION_ID).document(document)
+                .versionNumber(1).versionType(translatedVersionType).content(translatedHtml).build();
+        when(documentVersionRepository.findById(TRANSLATED_VERSION_ID)).thenReturn(Optional.of(translated));
+        when(documentVersionRepository.findByDocument_IdAndVersionNumber(DOCUMENT_ID, 0)).thenReturn(Optional.of(source));
+    }
+
+    @Test
+    void 모든_용어가_번역되면_통과() {
+        givenVersions(
+                "<h1>Spring Boot</h1><p>Define a bean.</p>",
+                "AI_DRAFT",
+                "<h1>스프링 부트</h1><p>빈을 정의합니다.</p>");
+
+        GlossaryCheckResponse result = checker.check(DOCUMENT_ID, TRANSLATED_VERSION_ID);
+
+        assertThat(result.getPassed()).isTrue();
+        assertThat(result.getParagraphAligned()).isTrue();
+        assertThat(result.getParagraphCount()).isEqualTo(2);
+        assertThat(result.getCheckedTermCount()).isEqualTo(2);
+        assertThat(result.getViolations()).isEmpty();
+        assertThat(result.getChecklist()).containsEntry(GlossaryConsistencyChecker.CHECKLIST_KEY, true);
+    }
+
+    @Test
+    void 번역_문단에_용어가_없으면_위반() {
+        givenVersions(
+                "<h1>Spring Boot</h1><p>Define a bean.</p>",
+                "AI_DRAFT",
+                "<h1>스프링 부트</h1><p>스프링 부트 객체를 정의합니다.</p>");
+
+        GlossaryCheckResponse result = checker.check(DOCUMENT_ID, TRANSLATED_VERSION_ID);
+
+        assertThat(result.getPassed()).isFalse();
+        assertThat(result.getViolationCount()).isEqualTo(1);
+        GlossaryCheckResponse.Violation violation = result.getViolations().get(0);
+        assertThat(violation.getParagraphIndex()).isEqualTo(1);
+        assertThat(violation.getTermId()).isEqualTo(101L);
+        assertThat(violation.getTargetTerm()).isEqualTo("빈");
+        assertThat(result.getChecklist()).containsEntry(GlossaryConsistencyChecker.CHECKLIST_KEY, false);
+    }
+
+    @Test
+    void 문단_구조가_다르면_문서_전체로_비교() {
+        givenVersions(
+                "<p>Spring Boot</p><p>Define a bean.</p>",
+                "MANUAL_TRANSLATION",
+                "<p>스프링 부트로 빈을 정의합니다.</p>");
+
+        GlossaryCheckResponse result = checker.check(DOCUMENT_ID, TRANSLATED_VERSION_ID);
+
+        assertThat(result.getParagraphAligned()).isFalse();
+        assertThat(result.getParagraphCount()).isEqualTo(1);
+        assertThat(result.getPassed()).isTrue();
+    }
+
+    @Test
+    void 원문_버전은_검사하지_않음() {
+        givenVersions("<p>Spring Boot</p>", "ORIGINAL", "<p>Spring Boot</p>");
+
+        assertThatThrownBy(() -> checker.check(DOCUMENT_ID, TRANSLATED_VERSION_ID))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 체크리스트_미리_채우기는_검사할_수_없으면_빈_Map() {
+        givenVersions("<p>Spring Boot</p>", "ORIGINAL", "<p>Spring Boot</p>");
+
+        assertThat(checker.suggestChecklist(DOCUMENT_ID, TRANSLATED_VERSION_ID)).isEmpty();
+    }
+
+    @Test
+    void 체크리스트_미리_채우기는_검사_결과를_반환() {
+        givenVersions("<p>Spring Boot</p>", "AI_DRAFT", "<p>Spring Boot 설정</p>");
+
+        assertThat(checker.suggestChecklist(DOCUMENT_ID, TRANSLATED_VERSION_ID))
+                .containsEntry(GlossaryConsistencyChecker.CHECKLIST_KEY, false);
+    }
+}
@@ -0,0 +1,71 @@
+package com.project.Transflow.term.service;
+
+import com.project.Transflow.document.repository.DocumentVersionRepository;
+import com.project.Transflow.term.entity.TermDictionary;
+import com.project.Transflow.term.repository.TermDictionaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TermMatchServiceTest {
+
+    @Mock
+    private TermDictionaryRepository termDictionaryRepository;
+
+    @Mock
+    private DocumentVersionRepository documentVersionRepository;
+
+    private TermMatchService termMatchService;
+
+    @BeforeEach
+    void setUp() {
+        termMatchService = new TermMatchService(termDictionaryRepository, documentVersionRepository);
+    }
+
+    @Test
+    void 지역_코드가_붙은_용어도_언어_부분으로_조회() {
+        when(termDictionaryRepository.findByBaseLanguages("EN", "KO")).thenReturn(List.of(
+                TermDictionary.builder().id(1L).sourceTerm("color").targetTerm("색상")
+                        .sourceLang("EN-US").targetLang("KO").build(),
+                TermDictionary.builder().id(2L).sourceTerm("colour").targetTerm("색상")
+                        .sourceLang("EN-GB").targetLang("KO").build()
+        ));
+
+        TermMatcher matcher = termMatchService.getMatcher("en-US", "ko", TermMatcher.Side.SOURCE);
+
+        assertThat(matcher.findAll("color and colour", false)).hasSize(2);
+    }
+
+    @Test
+    void 같은_언어_부분의_매처는_한_번만_생성() {
+        when(termDictionaryRepository.findByBaseLanguages("EN", "KO")).thenReturn(List.of());
+
+        TermMatcher first = termMatchService.getMatcher("EN", "KO", TermMatcher.Side.TARGET);
+        TermMatcher second = termMatchService.getMatcher("EN-GB", "KO", TermMatcher.Side.TARGET);
+
+        assertThat(second).isSameAs(first);
+        verify(termDictionaryRepository, times(1)).findByBaseLanguages("EN", "KO");
+    }
+
+    @Test
+    void 생성에_실패하면_다음_조회에서_다시_생성() {
+        when(termDictionaryRepository.findByBaseLanguages("EN", "KO"))
+                .thenThrow(new IllegalStateException("DB 오류"))
+                .thenReturn(List.of());
+
+        assertThatThrownBy(() -> termMatchService.getMatcher("EN", "KO", TermMatcher.Side.SOURCE))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(termMatchService.getMatcher("EN", "KO", TermMatcher.Side.SOURCE).getTermCount()).isZero();
+    }
+}
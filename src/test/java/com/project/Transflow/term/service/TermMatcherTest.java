@@ -0,0 +1,131 @@
+package com.project.Transflow.term.service;
+
+import com.project.Transflow.term.entity.TermDictionary;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TermMatcherTest {
+
+    private static TermDictionary term(long id, String sourceTerm, String targetTerm) {
+        return TermDictionary.builder()
+                .id(id)
+                .sourceTerm(sourceTerm)
+                .targetTerm(targetTerm)
+                .sourceLang("EN")
+                .targetLang("KO")
+                .build();
+    }
+
+    private static List<String> matchedTexts(String text, List<TermMatcher.Match> matches) {
+        return matches.stream()
+                .map(match -> text.substring(match.getStart(), match.getEnd()))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void 대소문자_구분없이_매칭() {
+        TermMatcher matcher = TermMatcher.build(List.of(term(1L, "Spring Boot", "스프링 부트")), TermMatcher.Side.SOURCE);
+
+        String text = "We use SPRING boot and spring Boot.";
+        List<TermMatcher.Match> matches = matcher.findAll(text, false);
+
+        assertThat(matchedTexts(text, matches)).containsExactly("SPRING boot", "spring Boot");
+        assertThat(matches.get(0).getTerms()).extracting(TermMatcher.Term::getId).containsExactly(1L);
+    }
+
+    @Test
+    void 연속_공백은_하나로_보고_원래_위치를_반환() {
+        TermMatcher matcher = TermMatcher.build(List.of(term(1L, "Spring  Boot", "스프링 부트")), TermMatcher.Side.SOURCE);
+
+        String text = "a  b Spring \n\t Boot end";
+        List<TermMatcher.Match> matches = matcher.findAll(text, false);
+
+        assertThat(matches).hasSize(1);
+        assertThat(matches.get(0).getStart()).isEqualTo(text.indexOf("Spring"));
+        assertThat(matchedTexts(text, matches)).containsExactly("Spring \n\t Boot");
+    }
+
+    @Test
+    void 영문_용어는_단어_중간에서_매칭하지_않음() {
+        TermMatcher matcher = TermMatcher.build(List.of(term(1L, "API", "API")), TermMatcher.Side.SOURCE);
+
+        String text = "RAPID APIs API, (API) api2 api";
+        List<TermMatcher.Match> matches = matcher.findAll(text, false);
+
+        assertThat(matchedTexts(text, matches)).containsExactly("API", "API", "api");
+    }
+
+    @Test
+    void 한글_용어는_단어_경계를_따지지_않음() {
+        TermMatcher matcher = TermMatcher.build(List.of(term(1L, "Spring Boot", "스프링 부트")), TermMatcher.Side.TARGET);
+
+        String text = "스프링 부트를 사용합니다";
+        List<TermMatcher.Match> matches = matcher.findAll(text, false);
+
+        assertThat(matchedTexts(text, matches)).containsExactly("스프링 부트");
+    }
+
+    @Test
+    void 겹치면_먼저_시작하고_긴_용어를_선택() {
+        TermMatcher matcher = TermMatcher.build(List.of(
+                term(1L, "Spring", "스프링"),
+                term(2L, "Spring Boot", "스프링 부트"),
+                term(3L, "Boot Loader", "부트 로더")
+        ), TermMatcher.Side.SOURCE);
+
+        String text = "Spring Boot Loader and Spring";
+        List<TermMatcher.Match> matches = matcher.findAll(text, false);
+
+        assertThat(matchedTexts(text, matches)).containsExactly("Spring Boot", "Spring");
+        assertThat(matches.get(0).getTerms()).extracting(TermMatcher.Term::getId).containsExactly(2L);
+        assertThat(matches.get(1).getTerms()).extracting(TermMatcher.Term::getId).containsExactly(1L);
+    }
+
+    @Test
+    void 태그_안은_건너뛰고_태그를_사이에_둔_용어는_매칭하지_않음() {
+        TermMatcher matcher = TermMatcher.build(List.of(
+                term(1L, "Spring Boot", "스프링 부트"),
+                term(2L, "class", "클래스")
+        ), TermMatcher.Side.SOURCE);
+
+        String text = "<p class=\"x\">Spring<b> Boot</b> and Spring Boot</p>";
+        List<TermMatcher.Match> matches = matcher.findAll(text, true);
+
+        assertThat(matchedTexts(text, matches)).containsExactly("Spring Boot");
+        assertThat(matches.get(0).getStart()).isEqualTo(text.lastIndexOf("Spring Boot"));
+    }
+
+    @Test
+    void 같은_번역_용어는_패턴을_공유() {
+        TermMatcher matcher = TermMatcher.build(List.of(
+                term(1L, "repository", "저장소"),
+                term(2L, "repo", "저장소"),
+                term(3L, "blank", "  ")
+        ), TermMatcher.Side.TARGET);
+
+        String text = "코드 저장소";
+        List<TermMatcher.Match> matches = matcher.findAll(text, false);
+
+        assertThat(matcher.getTermCount()).isEqualTo(2);
+        assertThat(matches).hasSize(1);
+        assertThat(matches.get(0).getTerms()).extracting(TermMatcher.Term::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void 용어가_없으면_빈_목록() {
+        TermMatcher matcher = TermMatcher.build(List.of(), TermMatcher.Side.SOURCE);
+
+        assertThat(matcher.findAll("anything", false)).isEmpty();
+        assertThat(matcher.getTermCount()).isZero();
+    }
+
+    @Test
+    void 정규화는_소문자와_공백_하나() {
+        assertThat(TermMatcher.normalize("  Spring \t\n BOOT  ")).isEqualTo("spring boot");
+        assertThat(TermMatcher.normalize(null)).isEmpty();
+    }
+}
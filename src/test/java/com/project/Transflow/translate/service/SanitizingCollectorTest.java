@@ -0,0 +1,189 @@
+package com.project.Transflow.translate.service;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Attribute;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.select.NodeVisitor;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 번 순회하는 SanitizingCollector가 기존 select() 기반 정리 + 텍스트 노드 수집과
+ * 같은 HTML과 같은 번역 대상 텍스트를 만드는지 확인
+ */
+class SanitizingCollectorTest {
+
+    private static final Set<String> LEGACY_SKIP_TAGS = Set.of("script", "style", "noscript", "code", "pre");
+
+    private static final String[] TAGS = {
+            "div", "p", "span", "li", "td", "a", "b", "code", "pre", "style", "script", "noscript", "iframe", "link"
+    };
+    private static final String[] TEXTS = {
+            "Hello world", "x", "  ", "12345", "https://example.com", "user@example.com", "...",
+            "Spring Boot 가이드", "v1.2.3", "안녕하세요", "var a = 1;"
+    };
+    private static final String[][] ATTRIBUTES = {
+            {"onclick", "alert(1)"}, {"ONLOAD", "init()"}, {"onmouseover", "x()"},
+            {"data-reactroot", ""}, {"data-react-helmet", "true"}, {"id", "root"}, {"id", "react-app"},
+            {"class", "react-button"}, {"src", "https://example.com/frame"}, {"href", "/a"},
+            {"rel", "preload"}, {"rel", "PRELOAD"}, {"as", "script"}, {"as", "style"},
+            {"rel", "modulepreload"}, {"rel", "manifest"}, {"rel", "stylesheet"}, {"type", "module"}
+    };
+
+    @Test
+    void 대표_페이지에서_기존_정리와_같음() {
+        String html = "<html><head>"
+                + "<link rel=\"preload\" as=\"script\" href=\"/app.js\">"
+                + "<link rel=\"preload\" as=\"style\" href=\"/app.css\">"
+                + "<link rel=\"modulepreload\" href=\"/m.js\">"
+                + "<link rel=\"manifest\" href=\"/manifest.json\">"
+                + "<link rel=\"stylesheet\" href=\"/s.css\">"
+                + "<style>body { color: red; }</style>"
+                + "<script>window.__STATE__ = {};</script>"
+                + "<script type=\"module\" src=\"/m.js\"></script>"
+                + "</head><body onload=\"init()\">"
+                + "<div id=\"root\" data-reactroot=\"\"><h1 onclick=\"x()\">Getting Started</h1>"
+                + "<p>Read the <a href=\"https://example.com\">guide</a> first.</p>"
+                + "<noscript>Enable JavaScript to continue.</noscript>"
+                + "<pre>npm install</pre><p><code>mvn test</code> runs the tests.</p>"
+                + "<ul><li>12345</li><li>https://example.com/docs</li><li>help@example.com</li><li>...</li></ul>"
+                + "<iframe src=\"https://example.com/embed\" title=\"Demo\"></iframe>"
+                + "</div></body></html>";
+
+        assertSameAsLegacy(html);
+    }
+
+    @Test
+    void 무작위_문서에서_기존_정리와_같음() {
+        Random random = new Random(20261017L);
+        for (int n = 0; n < 2_000; n++) {
+            StringBuilder html = new StringBuilder("<html><head></head><body>");
+            appendRandomChildren(html, random, 0);
+            html.append("</body></html>");
+            assertSameAsLegacy(html.toString());
+        }
+    }
+
+    private static void appendRandomChildren(StringBuilder html, Random random, int depth) {
+        int count = random.nextInt(4);
+        for (int i = 0; i < count; i++) {
+            if (depth >= 4 || random.nextInt(3) == 0) {
+                html.append(TEXTS[random.nextInt(TEXTS.length)]);
+                continue;
+            }
+            String tag = TAGS[random.nextInt(TAGS.length)];
+            html.append('<').append(tag);
+            int attributes = random.nextInt(3);
+            for (int a = 0; a < attributes; a++) {
+                String[] attribute = ATTRIBUTES[random.nextInt(ATTRIBUTES.length)];
+                html.append(' ').append(attribute[0]).append("=\"").append(attribute[1]).append('"');
+            }
+            html.append('>');
+            appendRandomChildren(html, random, depth + 1);
+            html.append("</").append(tag).append('>');
+        }
+    }
+
+    private static void assertSameAsLegacy(String html) {
+        Document legacyDoc = Jsoup.parse(html);
+        legacySanitize(legacyDoc);
+        List<String> legacyTexts = legacyCollect(legacyDoc);
+
+        Document doc = Jsoup.parse(html);
+        HtmlTranslationService.SanitizingCollector collector = new HtmlTranslationService.SanitizingCollector();
+        doc.filter(collector);
+        List<String> texts = collector.texts.stream()
+                .map(text -> text.originalText)
+                .collect(Collectors.toList());
+
+        assertThat(doc.html()).as(html).isEqualTo(legacyDoc.html());
+        assertThat(texts).as(html).isEqualTo(legacyTexts);
+    }
+
+    /**
+     * 한 번 순회로 바꾸기 전 translateHtml의 입력 정리
+     */
+    private static void legacySanitize(Document doc) {
+        doc.select("script").remove();
+        doc.select("noscript").remove();
+        doc.select("link[rel='preload'][as='script']").remove();
+        doc.select("link[rel='modulepreload']").remove();
+        doc.select("script[type='module']").remove();
+        doc.select("script[type='text/javascript']").remove();
+
+        doc.select("*").forEach(element -> {
+            List<Attribute> attrsToRemove = new ArrayList<>();
+            element.attributes().forEach(attr -> {
+                if (attr.getKey().toLowerCase().startsWith("on")) {
+                    attrsToRemove.add(attr);
+                }
+            });
+            attrsToRemove.forEach(attr -> element.removeAttr(attr.getKey()));
+        });
+
+        doc.select("[data-reactroot]").removeAttr("data-reactroot");
+        doc.select("[data-react-helmet]").removeAttr("data-react-helmet");
+        doc.select("#root, #app, [id^='react'], [class^='react']").forEach(element -> {
+            element.removeAttr("data-reactroot");
+            element.removeAttr("data-react-helmet");
+        });
+
+        doc.select("iframe[src]").forEach(iframe -> {
+            iframe.removeAttr("src");
+            iframe.attr("data-disabled", "true");
+        });
+
+        doc.select("link[rel='manifest']").remove();
+    }
+
+    /**
+     * 한 번 순회로 바꾸기 전 collectTranslatableTexts (기존 정규식 판별 포함)
+     */
+    private static List<String> legacyCollect(Document doc) {
+        List<String> texts = new ArrayList<>();
+        doc.traverse(new NodeVisitor() {
+            @Override
+            public void head(Node node, int depth) {
+                if (!(node instanceof TextNode)) {
+                    return;
+                }
+                String text = ((TextNode) node).text().trim();
+                if (text.isEmpty() || text.length() < 2) {
+                    return;
+                }
+                Node parentNode = node.parent();
+                if (parentNode instanceof Element
+                        && LEGACY_SKIP_TAGS.contains(((Element) parentNode).tagName().toLowerCase())) {
+                    return;
+                }
+                if (legacyShouldSkip(text)) {
+                    return;
+                }
+                texts.add(text);
+            }
+
+            @Override
+            public void tail(Node node, int depth) {
+            }
+        });
+        return texts;
+    }
+
+    private static boolean legacyShouldSkip(String text) {
+        return Pattern.matches("^https?://.*", text)
+                || Pattern.matches("^[\\w-\\.]+@([\\w-]+\\.)+[\\w-]{2,4}$", text)
+                || Pattern.matches("^\\d+$", text)
+                || Pattern.matches("^[\\s\\p{Punct}]+$", text);
+    }
+}
@@ -0,0 +1,85 @@
+package com.project.Transflow.translate.service;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StylesheetFetcherTest {
+
+    private static final String CSS = "body { color: red; }";
+
+    private HttpServer server;
+    private final AtomicInteger status = new AtomicInteger(200);
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private StylesheetFetcher fetcher;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            requestCount.incrementAndGet();
+            int code = status.get();
+            byte[] body = code == 200 ? CSS.getBytes(StandardCharsets.UTF_8) : new byte[0];
+            exchange.getResponseHeaders().add("Cache-Control", "no-cache");
+            exchange.getResponseHeaders().add("ETag", "\"v1\"");
+            exchange.sendResponseHeaders(code, body.length > 0 ? body.length : -1);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        fetcher = new StylesheetFetcher(new StylesheetCache(1_000_000), 4, 2, 5_000, 600);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void 재검증이_오류_응답이면_이전_CSS를_사용() {
+        String url = baseUrl + "/a.css";
+        assertThat(fetcher.fetch(url)).isEqualTo(CSS);
+
+        status.set(503);
+        assertThat(fetcher.fetch(url)).isEqualTo(CSS);
+        assertThat(requestCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 재검증이_304이면_캐시된_CSS를_사용() {
+        String url = baseUrl + "/a.css";
+        assertThat(fetcher.fetch(url)).isEqualTo(CSS);
+
+        status.set(304);
+        assertThat(fetcher.fetch(url)).isEqualTo(CSS);
+    }
+
+    @Test
+    void 캐시에_없으면_오류_응답은_제외() {
+        status.set(404);
+
+        assertThat(fetcher.fetchAll(List.of(baseUrl + "/missing.css"))).isEmpty();
+    }
+
+    @Test
+    void 요청이_끝난_호스트의_허용량은_남기지_않음() {
+        fetcher.fetchAll(List.of(baseUrl + "/a.css", baseUrl + "/b.css", baseUrl + "/c.css",
+                "http://localhost:" + server.getAddress().getPort() + "/d.css"));
+
+        assertThat(fetcher.getTrackedHostCount()).isZero();
+    }
+}
@@ -0,0 +1,92 @@
+package com.project.Transflow.translate.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TextSkipClassifier가 기존 정규식 판별과 같은 결과를 내는지 확인
+ */
+class TextSkipClassifierTest {
+
+    // 문자 스캐너로 바꾸기 전 HtmlTranslationService.shouldSkipText가 쓰던 정규식
+    private static final Pattern URL = Pattern.compile("^https?://.*");
+    private static final Pattern EMAIL = Pattern.compile("^[\\w-\\.]+@([\\w-]+\\.)+[\\w-]{2,4}$");
+    private static final Pattern DIGITS = Pattern.compile("^\\d+$");
+    private static final Pattern PUNCTUATION = Pattern.compile("^[\\s\\p{Punct}]+$");
+
+    // 판별에 영향을 주는 문자 위주로 무작위 문자열 생성
+    private static final String EMAIL_ALPHABET = "aZ9_-.@ ";
+    private static final String ALPHABET = "aZ09_-.@:/ \t\n\r\u0085\u2028!#,?한글\u3000httpsomx";
+
+    private static void appendRandom(StringBuilder builder, Random random, String alphabet, int maxLength) {
+        int length = random.nextInt(maxLength + 1);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+    }
+
+    private static boolean legacyShouldSkip(String text) {
+        return URL.matcher(text).matches()
+                || EMAIL.matcher(text).matches()
+                || DIGITS.matcher(text).matches()
+                || PUNCTUATION.matcher(text).matches();
+    }
+
+    @Test
+    void 대표_입력에서_기존_정규식과_같음() {
+        List<String> samples = List.of(
+                "",
+                "http://example.com", "https://example.com/a?b=c", "http:/example.com", "ftp://example.com",
+                "HTTP://EXAMPLE.COM", "see https://example.com", "http://example.com\nnext line",
+                "user@example.com", "first.last-name@mail.example.co.kr", "user@example", "user@example.c",
+                "user@example.abcde", "@example.com", "user@.com", "user@example..com", "user@exa mple.com",
+                "user_name@ex-ample.org", "a@b.cd", "user@example.com.",
+                "12345", "0", "12,345", "١٢٣", "12a",
+                "...", "—", "!?", " - ", "(*)", "·", "\u00A0", "\u3000",
+                "Hello", "안녕하세요", "v1.2.3", "C++"
+        );
+
+        for (String sample : samples) {
+            assertThat(TextSkipClassifier.shouldSkip(sample))
+                    .as("\"%s\"", sample)
+                    .isEqualTo(legacyShouldSkip(sample));
+        }
+    }
+
+    @Test
+    void 무작위_입력에서_기존_정규식과_같음() {
+        Random random = new Random(20261017L);
+        StringBuilder builder = new StringBuilder();
+
+        for (int n = 0; n < 200_000; n++) {
+            builder.setLength(0);
+            int shape = random.nextInt(8);
+            if (shape == 0) {
+                builder.append(random.nextBoolean() ? "http://" : "https://");
+                appendRandom(builder, random, ALPHABET, 16);
+            } else if (shape == 1) {
+                // 이메일 형태 (로컬 파트 @ 라벨들)
+                appendRandom(builder, random, EMAIL_ALPHABET, 6);
+                builder.append('@');
+                int labels = 1 + random.nextInt(3);
+                for (int i = 0; i < labels; i++) {
+                    appendRandom(builder, random, EMAIL_ALPHABET, 6);
+                    builder.append('.');
+                }
+                appendRandom(builder, random, EMAIL_ALPHABET, 6);
+            } else {
+                appendRandom(builder, random, ALPHABET, 16);
+            }
+            String text = builder.toString().trim();
+
+            assertThat(TextSkipClassifier.shouldSkip(text))
+                    .as("\"%s\"", text)
+                    .isEqualTo(legacyShouldSkip(text));
+        }
+    }
+}